@@ -0,0 +1,89 @@
+package com.orangehrm.benchmarks;
+
+import com.orangehrm.base.PageSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BasePageBenchmark - Framework overhead of each BasePage primitive
+ *
+ * Runs against StubWebDriver, so the numbers are pure framework cost:
+ * thread check, wait engine, element cache, metrics recording.
+ * Compare runs with and without the element cache via the "elementCache" param.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BasePageBenchmark {
+
+    private static final By USERNAME = By.name("username");
+    private static final By LOGIN_BUTTON = By.cssSelector("button[type='submit']");
+    private static final By HEADER = By.cssSelector("h6.oxd-text--h6");
+    private static final By ERROR = By.cssSelector("p.oxd-alert-content-text");
+
+    @Param({"false", "true"})
+    public boolean elementCache;
+
+    private BenchmarkPage page;
+    private final Map<String, By> menus = new LinkedHashMap<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        page = new BenchmarkPage(new StubWebDriver(), elementCache);
+        menus.put("Admin", By.xpath("//span[text()='Admin']"));
+        menus.put("PIM", By.xpath("//span[text()='PIM']"));
+        menus.put("Leave", By.xpath("//span[text()='Leave']"));
+        menus.put("Time", By.xpath("//span[text()='Time']"));
+        menus.put("Recruitment", By.xpath("//span[text()='Recruitment']"));
+    }
+
+    @Benchmark
+    public Object findElement() {
+        return page.find(HEADER);
+    }
+
+    @Benchmark
+    public void click() {
+        page.clickOn(LOGIN_BUTTON);
+    }
+
+    @Benchmark
+    public void type() {
+        page.typeInto(USERNAME, "Admin");
+    }
+
+    @Benchmark
+    public boolean isDisplayed() {
+        return page.displayed(HEADER);
+    }
+
+    @Benchmark
+    public boolean isNotDisplayed() {
+        return page.notDisplayed(ERROR);
+    }
+
+    @Benchmark
+    public PageSnapshot snapshotOfFiveMenus() {
+        return page.snapshotOf(menus);
+    }
+}
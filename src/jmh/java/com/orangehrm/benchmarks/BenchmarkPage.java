@@ -0,0 +1,45 @@
+package com.orangehrm.benchmarks;
+
+import com.orangehrm.base.BasePage;
+import com.orangehrm.base.PageSnapshot;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import java.util.Map;
+
+/**
+ * BenchmarkPage - Exposes BasePage's protected helpers to the benchmarks
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class BenchmarkPage extends BasePage {
+
+    public BenchmarkPage(WebDriver driver, boolean elementCache) {
+        super(driver);
+        setElementCacheEnabled(elementCache);
+    }
+
+    public Object find(By locator) {
+        return findElement(locator);
+    }
+
+    public void clickOn(By locator) {
+        click(locator);
+    }
+
+    public void typeInto(By locator, String text) {
+        type(locator, text);
+    }
+
+    public boolean displayed(By locator) {
+        return isDisplayed(locator);
+    }
+
+    public boolean notDisplayed(By locator) {
+        return isNotDisplayed(locator);
+    }
+
+    public PageSnapshot snapshotOf(Map<String, By> locators) {
+        return snapshot(locators);
+    }
+}
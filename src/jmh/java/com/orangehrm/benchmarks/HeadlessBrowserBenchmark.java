@@ -0,0 +1,116 @@
+package com.orangehrm.benchmarks;
+
+import com.orangehrm.driver.DriverBinaryResolver;
+import com.orangehrm.pages.DashboardPage;
+import com.orangehrm.pages.LoginPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * HeadlessBrowserBenchmark - Page-object flows in a real local browser
+ *
+ * Uses static fixture pages that copy the OrangeHRM DOM contract, loaded
+ * from file:// in headless Chrome. They sit under the application's paths
+ * (web/index.php/auth/login.html, .../dashboard/index.html), so the page
+ * contracts' URL patterns match them as they match the real pages.
+ * No network, no demo server: numbers only move when our code (or the
+ * browser) changes.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HeadlessBrowserBenchmark {
+
+    private WebDriver driver;
+    private Path fixtures;
+    private String loginUrl;
+    private String dashboardUrl;
+
+    @Setup(Level.Trial)
+    public void startBrowser() throws IOException {
+        fixtures = Files.createTempDirectory("orangehrm-fixtures");
+        loginUrl = copyFixture("web/index.php/auth/login.html");
+        dashboardUrl = copyFixture("web/index.php/dashboard/index.html");
+
+        DriverBinaryResolver.resolveChromeDriver();
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--disable-gpu", "--window-size=1280,800");
+        driver = new ChromeDriver(options);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopBrowser() throws IOException {
+        driver.quit();
+        // Deepest first: directories are empty by the time they are deleted
+        try (Stream<Path> files = Files.walk(fixtures)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean loginFlow() {
+        driver.get(loginUrl);
+        return new LoginPage(driver).login("Admin", "admin123").isDashboardDisplayed();
+    }
+
+    @Benchmark
+    public boolean invalidLoginError() {
+        driver.get(loginUrl);
+        LoginPage loginPage = new LoginPage(driver);
+        loginPage.enterUsername("Admin");
+        loginPage.enterPassword("wrong");
+        loginPage.clickLoginButton();
+        return loginPage.isErrorMessageDisplayed();
+    }
+
+    @Benchmark
+    public boolean dashboardMenus() {
+        driver.get(dashboardUrl);
+        return new DashboardPage(driver).areMainMenusDisplayed();
+    }
+
+    /**
+     * @param name path under /fixtures, kept under the temporary directory
+     *             so the relative links between the pages still work
+     */
+    private String copyFixture(String name) throws IOException {
+        Path target = fixtures.resolve(name);
+        Files.createDirectories(target.getParent());
+        try (InputStream in = HeadlessBrowserBenchmark.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture " + name);
+            }
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return target.toUri().toString();
+    }
+}
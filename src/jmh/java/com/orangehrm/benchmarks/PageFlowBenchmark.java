@@ -0,0 +1,59 @@
+package com.orangehrm.benchmarks;
+
+import com.orangehrm.pages.DashboardPage;
+import com.orangehrm.pages.LoginPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PageFlowBenchmark - Framework overhead of whole page-object flows
+ * LoginPage.login() and the DashboardPage checks, against StubWebDriver
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageFlowBenchmark {
+
+    private StubWebDriver driver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = new StubWebDriver();
+    }
+
+    @Benchmark
+    public DashboardPage login() {
+        return new LoginPage(driver).login("Admin", "admin123");
+    }
+
+    @Benchmark
+    public boolean isDashboardDisplayed() {
+        return new DashboardPage(driver).isDashboardDisplayed();
+    }
+
+    @Benchmark
+    public boolean areMainMenusDisplayed() {
+        return new DashboardPage(driver).areMainMenusDisplayed();
+    }
+
+    @Benchmark
+    public LoginPage logout() {
+        return new DashboardPage(driver).logout();
+    }
+}
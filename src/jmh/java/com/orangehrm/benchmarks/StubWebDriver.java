@@ -0,0 +1,429 @@
+package com.orangehrm.benchmarks;
+
+import com.orangehrm.base.Scripts;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * StubWebDriver - In-process WebDriver that answers instantly
+ *
+ * Every command returns a canned answer without any I/O, so a benchmark
+ * against it measures only the framework's own overhead (waits, cache,
+ * metrics, page-object plumbing), never the browser.
+ *
+ * Scripts from src/main/resources/js are recognised by their text
+ * (equals against Scripts.load of the same file) and answered in the
+ * shape BasePage expects. Other scripts (storage resets...) return null.
+ * switchTo(), navigate() and manage() return working no-op objects, so
+ * new BasePage features don't break the benchmarks with an exception.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class StubWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot {
+
+    // 1x1 transparent PNG
+    private static final String SCREENSHOT =
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8AAAAASUVORK5CYII=";
+
+    private static final String ELEMENT_SNAPSHOT = Scripts.load("element-snapshot.js");
+    private static final String LOCATOR_PROBE = Scripts.load("locator-probe.js");
+    private static final String PAGE_READY = Scripts.load("page-ready.js");
+    private static final String NETWORK_IDLE = Scripts.load("network-idle.js");
+
+    private final StubElement element = new StubElement();
+    private final TargetLocator targetLocator = new StubTargetLocator();
+    private final Navigation navigation = new StubNavigation();
+    private final Options options = noOp(Options.class);
+    private String currentUrl = "https://stub.local/web/index.php/dashboard/index";
+
+    public void setCurrentUrl(String currentUrl) {
+        this.currentUrl = currentUrl;
+    }
+
+    @Override
+    public void get(String url) {
+        currentUrl = url;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        return "OrangeHRM";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return Collections.singletonList(element);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return element;
+    }
+
+    @Override
+    public String getPageSource() {
+        return "<html></html>";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void quit() {
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Collections.singleton("stub");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "stub";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return targetLocator;
+    }
+
+    @Override
+    public Navigation navigate() {
+        return navigation;
+    }
+
+    @Override
+    public Options manage() {
+        return options;
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return target.convertFromBase64Png(SCREENSHOT);
+    }
+
+    /**
+     * Answers the framework's scripts as a page where every element is visible
+     */
+    @Override
+    public Object executeScript(String script, Object... args) {
+        if (script.equals(ELEMENT_SNAPSHOT)) {
+            return elementSnapshot((List<?>) args[0]);
+        }
+        if (script.equals(LOCATOR_PROBE)) {
+            return locatorProbe((List<?>) args[0]);
+        }
+        if (script.equals(PAGE_READY)) {
+            return pageReady();
+        }
+        if (script.equals("return document.readyState")) {
+            return "complete";
+        }
+        return null;
+    }
+
+    /**
+     * Answers network-idle.js as a page whose tracker is installed and quiet
+     */
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        if (script.equals(NETWORK_IDLE)) {
+            return networkIdle();
+        }
+        return null;
+    }
+
+    // ==================== SCRIPT ANSWERS ====================
+
+    private static List<Map<String, Object>> elementSnapshot(List<?> specs) {
+        List<Map<String, Object>> states = new ArrayList<>();
+        for (int i = 0; i < specs.size(); i++) {
+            Map<String, Object> state = new HashMap<>();
+            state.put("present", true);
+            state.put("visible", true);
+            state.put("enabled", true);
+            state.put("text", "Dashboard");
+            state.put("attributes", Collections.emptyMap());
+            states.add(state);
+        }
+        return states;
+    }
+
+    /**
+     * Every anchor visible, no spinner, on the current URL - the default one
+     * matches DashboardPage's contract; setCurrentUrl() for other pages
+     */
+    private Map<String, Object> pageReady() {
+        Map<String, Object> state = new HashMap<>();
+        state.put("url", currentUrl);
+        state.put("readyState", "complete");
+        state.put("missing", Collections.emptyList());
+        state.put("busy", false);
+        return state;
+    }
+
+    /**
+     * Numbers as Longs, like the JSON numbers a real driver returns
+     */
+    private Map<String, Object> networkIdle() {
+        Map<String, Object> state = new HashMap<>();
+        state.put("installed", true);
+        state.put("idle", true);
+        state.put("url", currentUrl);
+        state.put("inFlight", 0L);
+        state.put("requests", 0L);
+        state.put("failed", 0L);
+        state.put("routeChanges", 0L);
+        return state;
+    }
+
+    private static Map<String, Object> locatorProbe(List<?> specs) {
+        List<Map<String, Object>> locators = new ArrayList<>();
+        for (int i = 0; i < specs.size(); i++) {
+            Map<String, Object> locator = new HashMap<>();
+            locator.put("matches", 1L);
+            locator.put("micros", 1.0);
+            locators.add(locator);
+        }
+        Map<String, Object> probe = new HashMap<>();
+        probe.put("domSize", 100L);
+        probe.put("locators", locators);
+        return probe;
+    }
+
+    /**
+     * A do-nothing implementation of a WebDriver sub-interface (Options, Timeouts, Window...)
+     * A proxy rather than a class, so it keeps up with methods Selenium adds
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T noOp(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Class<?> returns = method.getReturnType();
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Stub" + type.getSimpleName();
+                default:
+                    break;
+            }
+            if (returns == type) {
+                return proxy;
+            }
+            if (returns.isInterface() && returns.getName().startsWith(WebDriver.class.getName())) {
+                return noOp(returns);
+            }
+            if (returns == Set.class) {
+                return Collections.emptySet();
+            }
+            if (returns == Duration.class) {
+                return Duration.ZERO;
+            }
+            if (returns == boolean.class) {
+                return false;
+            }
+            if (returns == int.class) {
+                return 0;
+            }
+            if (returns == long.class) {
+                return 0L;
+            }
+            return null;
+        });
+    }
+
+    /**
+     * One window, no frames, no alerts
+     */
+    private final class StubTargetLocator implements TargetLocator {
+
+        @Override
+        public WebDriver frame(int index) {
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebDriver frame(String nameOrId) {
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebDriver frame(WebElement frameElement) {
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebDriver parentFrame() {
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebDriver window(String nameOrHandle) {
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebDriver newWindow(WindowType typeHint) {
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebDriver defaultContent() {
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebElement activeElement() {
+            return element;
+        }
+
+        @Override
+        public Alert alert() {
+            throw new NoAlertPresentException();
+        }
+    }
+
+    /**
+     * Navigating only changes the current URL
+     */
+    private final class StubNavigation implements Navigation {
+
+        @Override
+        public void back() {
+        }
+
+        @Override
+        public void forward() {
+        }
+
+        @Override
+        public void to(String url) {
+            get(url);
+        }
+
+        @Override
+        public void to(URL url) {
+            get(String.valueOf(url));
+        }
+
+        @Override
+        public void refresh() {
+        }
+    }
+
+    /**
+     * One element that is always present, visible, enabled and clickable
+     */
+    static final class StubElement implements WebElement {
+
+        @Override
+        public void click() {
+        }
+
+        @Override
+        public void submit() {
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public String getTagName() {
+            return "span";
+        }
+
+        @Override
+        @SuppressWarnings("deprecation") // still part of WebElement, must be implemented
+        public String getAttribute(String name) {
+            return null;
+        }
+
+        @Override
+        public boolean isSelected() {
+            return false;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public String getText() {
+            return "Dashboard";
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return Collections.singletonList(this);
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return this;
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            return true;
+        }
+
+        @Override
+        public Point getLocation() {
+            return new Point(0, 0);
+        }
+
+        @Override
+        public Dimension getSize() {
+            return new Dimension(100, 20);
+        }
+
+        @Override
+        public Rectangle getRect() {
+            return new Rectangle(getLocation(), getSize());
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            return "";
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) {
+            return target.convertFromBase64Png(SCREENSHOT);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.orangehrm.api;
+
+import com.orangehrm.config.FrameworkConfig;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.openqa.selenium.json.Json;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ApiClient - JSON calls to the application's api/v2, as the logged-in user
+ *
+ * Real-World Context:
+ *  - Seeding 500 employees opens 500+ requests
+ *  - A new TCP connection per request wastes most of the time on handshakes
+ *  - Every ApiClient in the JVM shares ONE keep-alive connection pool
+ *    (api.maxConnections, default 16)
+ *
+ * Thread-safe: each call builds its own request. Responses are parsed
+ * with Selenium's Json, not REST Assured's JsonPath: JsonPath compiles a
+ * Groovy expression per lookup, which dominated batch seeding time.
+ *
+ * Failed calls (4xx/5xx) throw IllegalStateException with the server's
+ * error message - a fixture that could not be created must fail the test
+ * setup loudly.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class ApiClient {
+
+    private static final String API_PATH = "web/index.php/api/v2/";
+    private static final Json JSON = new Json();
+
+    private static final RestAssuredConfig CONFIG = RestAssuredConfig.config().httpClient(
+            HttpClientConfig.httpClientConfig()
+                    .httpClientFactory(ApiClient::newHttpClient)
+                    .reuseHttpClientInstance());
+
+    private final String baseUrl;
+    private final ApiSession session;
+
+    /**
+     * @param baseUrl application root, e.g. BaseTest.BASE_URL
+     */
+    public ApiClient(String baseUrl, ApiSession session) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.session = session;
+    }
+
+    // ==================== CALLS ====================
+
+    /**
+     * @param resource e.g. "leave/leave-types"
+     * @return the "data" element of the response: a list of records
+     */
+    public List<Map<String, Object>> getList(String resource) {
+        return data("GET", resource, request().get(resource));
+    }
+
+    /**
+     * @return the "data" element of the response: the created record
+     */
+    public Map<String, Object> post(String resource, Object body) {
+        return data("POST", resource, request().body(JSON.toJson(body)).post(resource));
+    }
+
+    /**
+     * @return the "data" element of the response, e.g. the deleted ids
+     */
+    public Object delete(String resource, Object body) {
+        return data("DELETE", resource, request().body(JSON.toJson(body)).delete(resource));
+    }
+
+    /**
+     * Number of records behind a list resource ("meta.total")
+     */
+    public int count(String resource) {
+        Object meta = body("GET", resource, request().get(resource)).get("meta");
+        return meta instanceof Map ? ((Number) ((Map<?, ?>) meta).get("total")).intValue() : 0;
+    }
+
+    /**
+     * @return an int field of a record, e.g. id(employee, "empNumber")
+     */
+    public static int id(Map<String, Object> record, String field) {
+        return ((Number) record.get(field)).intValue();
+    }
+
+    private RequestSpecification request() {
+        return RestAssured.given()
+                .config(CONFIG)
+                .baseUri(baseUrl + API_PATH)
+                .cookies(session.getCookies())
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T data(String method, String resource, Response response) {
+        return (T) body(method, resource, response).get("data");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> body(String method, String resource, Response response) {
+        int status = response.getStatusCode();
+        String text = response.asString();
+        Map<String, Object> body = response.getContentType().contains("json") && !text.isEmpty()
+                ? JSON.toType(text, Map.class) : Collections.emptyMap();
+        if (status >= 400) {
+            Object error = body.get("error");
+            String message = error instanceof Map ? String.valueOf(((Map<?, ?>) error).get("message"))
+                    : response.getStatusLine();
+            throw new IllegalStateException(method + " " + resource + " failed (" + status + "): " + message);
+        }
+        return body;
+    }
+
+    // ==================== CONNECTION POOL ====================
+
+    /**
+     * Called once: reuseHttpClientInstance() keeps this client (and its pool)
+     * for every request made with CONFIG and never shuts it down.
+     * DefaultHttpClient because REST Assured 5 still drives HttpClient 4
+     * through AbstractHttpClient; HttpClientBuilder's clients are not one.
+     */
+    @SuppressWarnings("deprecation")
+    private static DefaultHttpClient newHttpClient() {
+        int maxConnections = Math.max(1, FrameworkConfig.getInt("api.maxConnections", 16));
+        PoolingClientConnectionManager pool = new PoolingClientConnectionManager();
+        pool.setMaxTotal(maxConnections);
+        // One application host: every connection may go to it
+        pool.setDefaultMaxPerRoute(maxConnections);
+        return new DefaultHttpClient(pool);
+    }
+}
@@ -0,0 +1,329 @@
+package com.orangehrm.api;
+
+import com.orangehrm.config.FrameworkConfig;
+import com.orangehrm.data.Employee;
+import com.orangehrm.data.LeaveRequest;
+import com.orangehrm.data.SystemUser;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * ApiFixtures - Creates test preconditions through the HTTP API, removes them after
+ *
+ * Real-World Context:
+ *  - A PIM test needs employees to exist; typing them into the Add Employee
+ *    form costs ~10s each, 500 of them well over an hour
+ *  - The API creates one in a few milliseconds, and batches run on
+ *    api.concurrency threads (default 8) over pooled connections
+ *
+ * Everything created is remembered; close() deletes it again (users first,
+ * then employees - their entitlements and leave go with them). Ids whose
+ * deletion the server did not confirm are kept, logged and retried by the
+ * next close().
+ *
+ * Usage in a test: fixtures() from BaseTest (cleaned up after the test), or
+ * try (ApiFixtures fixtures = new ApiFixtures(client)) { ... } for class-wide data.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class ApiFixtures implements AutoCloseable {
+
+    private static final Logger LOG = LogManager.getLogger(ApiFixtures.class);
+
+    // Bulk deletes per request
+    private static final int DELETE_CHUNK = 100;
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(1, FrameworkConfig.getInt("api.concurrency", 8)), runnable -> {
+                Thread thread = new Thread(runnable, "api-fixtures-" + THREADS.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final ApiClient client;
+    private final Queue<Integer> employees = new ConcurrentLinkedQueue<>();
+    private final Queue<Integer> users = new ConcurrentLinkedQueue<>();
+    // Leave type name -> id, fetched once and published complete (null = not loaded yet)
+    private volatile Map<String, Integer> leaveTypeIds;
+
+    public ApiFixtures(ApiClient client) {
+        this.client = client;
+    }
+
+    // ==================== EMPLOYEES ====================
+
+    /**
+     * @return the new employee's empNumber (the id other API calls use)
+     */
+    public int createEmployee(Employee employee) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("firstName", employee.getFirstName());
+        body.put("middleName", employee.getMiddleName());
+        body.put("lastName", employee.getLastName());
+        body.put("employeeId", employee.getEmployeeId());
+        int empNumber = ApiClient.id(client.post("pim/employees", body), "empNumber");
+        employees.add(empNumber);
+        return empNumber;
+    }
+
+    /**
+     * Create many employees concurrently
+     *
+     * Real scenario: PIM list/search tests need 500 employees
+     *
+     * @return empNumbers, in the order of the given employees
+     */
+    public List<Integer> createEmployees(List<Employee> employees) {
+        return inParallel(employees, this::createEmployee);
+    }
+
+    // ==================== USERS ====================
+
+    /**
+     * @param empNumber employee the account belongs to
+     * @return the new user's id
+     */
+    public int createUser(SystemUser user, int empNumber) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("username", user.getUsername());
+        body.put("password", user.getPassword());
+        body.put("status", user.isEnabled());
+        // 1 = Admin, 2 = ESS in every installation
+        body.put("userRoleId", user.getRole() == SystemUser.Role.ADMIN ? 1 : 2);
+        body.put("empNumber", empNumber);
+        int id = ApiClient.id(client.post("admin/users", body), "id");
+        users.add(id);
+        return id;
+    }
+
+    /**
+     * Create one employee per user, then the accounts, concurrently
+     *
+     * @return user ids, in the order of the given users
+     */
+    public List<Integer> createUsersWithEmployees(List<SystemUser> systemUsers, List<Employee> owners) {
+        if (systemUsers.size() != owners.size()) {
+            throw new IllegalArgumentException("One employee per user needed: "
+                    + systemUsers.size() + " users, " + owners.size() + " employees");
+        }
+        List<Integer> empNumbers = createEmployees(owners);
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < systemUsers.size(); i++) {
+            indexes.add(i);
+        }
+        return inParallel(indexes, i -> createUser(systemUsers.get(i), empNumbers.get(i)));
+    }
+
+    // ==================== LEAVE ====================
+
+    /**
+     * Give the employee enough entitlement, then assign the leave
+     *
+     * @return the leave request id
+     */
+    public int assignLeave(LeaveRequest request, int empNumber) {
+        int leaveTypeId = leaveTypeId(request.getLeaveType());
+        LocalDate from = request.getFromDate();
+
+        Map<String, Object> entitlement = new LinkedHashMap<>();
+        entitlement.put("empNumber", empNumber);
+        entitlement.put("leaveTypeId", leaveTypeId);
+        // Default leave period: the calendar year
+        entitlement.put("fromDate", from.withDayOfYear(1).toString());
+        entitlement.put("toDate", from.withDayOfYear(from.lengthOfYear()).toString());
+        entitlement.put("entitlement", 30);
+        client.post("leave/leave-entitlements", entitlement);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("empNumber", empNumber);
+        body.put("leaveTypeId", leaveTypeId);
+        body.put("fromDate", from.toString());
+        body.put("toDate", request.getToDate().toString());
+        body.put("comment", request.getComment());
+        body.put("duration", Collections.singletonMap("type", "full_day"));
+        return ApiClient.id(client.post("leave/employees/leave-requests", body), "id");
+    }
+
+    private int leaveTypeId(String name) {
+        Map<String, Integer> ids = leaveTypeIds();
+        Integer id = ids.get(name);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown leave type '" + name + "', known: " + ids.keySet());
+        }
+        return id;
+    }
+
+    /**
+     * Leave types of the instance, fetched by the first caller only
+     * Parallel assignLeave() calls wait for it instead of reading a half-filled map
+     */
+    private Map<String, Integer> leaveTypeIds() {
+        Map<String, Integer> ids = leaveTypeIds;
+        if (ids == null) {
+            synchronized (this) {
+                ids = leaveTypeIds;
+                if (ids == null) {
+                    ids = new HashMap<>();
+                    for (Map<String, Object> type : client.getList("leave/leave-types?limit=0")) {
+                        ids.put(String.valueOf(type.get("name")), ApiClient.id(type, "id"));
+                    }
+                    ids = Collections.unmodifiableMap(ids);
+                    leaveTypeIds = ids;
+                }
+            }
+        }
+        return ids;
+    }
+
+    // ==================== TEARDOWN ====================
+
+    /**
+     * Delete everything created through this instance
+     * Both deletes are attempted even if the first fails; ids the server did
+     * not confirm stay queued, are logged, and a later close() retries them
+     *
+     * @throws IllegalStateException the first failed delete, after both were attempted
+     */
+    @Override
+    public void close() {
+        int userCount = 0;
+        int employeeCount = 0;
+        RuntimeException failure = null;
+        try {
+            userCount = deleteAll("admin/users", users);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        try {
+            employeeCount = deleteAll("pim/employees", employees);
+        } catch (RuntimeException e) {
+            if (failure == null) {
+                failure = e;
+            } else {
+                failure.addSuppressed(e);
+            }
+        }
+        if (userCount + employeeCount > 0) {
+            LOG.info("Removed fixtures: {} users, {} employees", userCount, employeeCount);
+        }
+        if (!users.isEmpty() || !employees.isEmpty()) {
+            LOG.warn("Fixtures not confirmed as deleted, kept for the next close(): users {}, employees {}",
+                    users, employees);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * @return ids the server confirmed as deleted
+     */
+    private int deleteAll(String resource, Queue<Integer> ids) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        List<Integer> chunk = new ArrayList<>();
+        for (Integer id = ids.poll(); id != null; id = ids.poll()) {
+            chunk.add(id);
+            if (chunk.size() == DELETE_CHUNK) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return inParallel(chunks, batch -> deleteChunk(resource, batch, ids))
+                .stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * The response lists the ids actually deleted; the rest go back into ids
+     */
+    private int deleteChunk(String resource, List<Integer> batch, Queue<Integer> ids) {
+        Object deleted;
+        try {
+            deleted = client.delete(resource, Collections.singletonMap("ids", batch));
+        } catch (RuntimeException e) {
+            ids.addAll(batch);
+            throw e;
+        }
+        Set<Integer> confirmed = new HashSet<>();
+        if (deleted instanceof Collection) {
+            for (Object id : (Collection<?>) deleted) {
+                if (id instanceof Number) {
+                    confirmed.add(((Number) id).intValue());
+                }
+            }
+        }
+        int count = 0;
+        for (Integer id : batch) {
+            if (confirmed.contains(id)) {
+                count++;
+            } else {
+                ids.add(id);
+            }
+        }
+        return count;
+    }
+
+    // ==================== CONCURRENCY ====================
+
+    /**
+     * Run one call per item on the shared executor, wait for all of them
+     * Worker threads log with the calling test's context (per-test log file)
+     *
+     * @throws IllegalStateException the first failure, once every call finished -
+     *                               whatever was created is still cleaned up by close()
+     */
+    private <T, R> List<R> inParallel(List<T> items, Function<T, R> call) {
+        Map<String, String> logContext = ThreadContext.getImmutableContext();
+        List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                ThreadContext.putAll(logContext);
+                try {
+                    return call.apply(item);
+                } finally {
+                    ThreadContext.clearMap();
+                }
+            }, EXECUTOR));
+        }
+
+        List<R> results = new ArrayList<>(items.size());
+        RuntimeException failure = null;
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException
+                            ? (RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+}
@@ -0,0 +1,68 @@
+package com.orangehrm.api;
+
+import com.orangehrm.session.SessionSnapshot;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ApiSession - The browser's login, usable for HTTP API calls
+ *
+ * Real-World Context:
+ *  - OrangeHRM's api/v2 accepts the same session cookie as the pages
+ *  - After LoginPage.login() the browser already holds that cookie, so the
+ *    API needs no separate login or token
+ *
+ * Immutable and safe to share between threads.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class ApiSession {
+
+    private final Map<String, String> cookies;
+
+    private ApiSession(Map<String, String> cookies) {
+        this.cookies = Collections.unmodifiableMap(new HashMap<>(cookies));
+    }
+
+    private ApiSession(Collection<Cookie> cookies) {
+        Map<String, String> values = new HashMap<>();
+        for (Cookie cookie : cookies) {
+            values.put(cookie.getName(), cookie.getValue());
+        }
+        this.cookies = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Session of a logged-in browser
+     *
+     * Real scenario: test logged in through the UI, seeds its data via the API
+     */
+    public static ApiSession fromDriver(WebDriver driver) {
+        return new ApiSession(driver.manage().getCookies());
+    }
+
+    /**
+     * Session captured earlier by loginWithCachedSession() - no browser needed
+     */
+    public static ApiSession fromSnapshot(SessionSnapshot snapshot) {
+        return new ApiSession(snapshot.getCookies());
+    }
+
+    /**
+     * Session cookies obtained without a browser, e.g. "orangehrm" -> id
+     *
+     * Real scenario: API-only test logged in over plain HTTP
+     */
+    public static ApiSession fromCookies(Map<String, String> cookies) {
+        return new ApiSession(cookies);
+    }
+
+    public Map<String, String> getCookies() {
+        return cookies;
+    }
+}
@@ -0,0 +1,200 @@
+package com.orangehrm.artifacts;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ArtifactWriter - Turns raw failure captures into files, off the test thread
+ *
+ * Real-World Context:
+ *  - Decoding a full-page PNG, gzipping a 1 MB page source and writing
+ *    both takes hundreds of milliseconds
+ *  - The failing test's worker and browser should move on immediately
+ *  - A run where 50 tests fail on the same broken page produces the same
+ *    screenshot 50 times: it is stored once
+ *
+ * Layout (capture.dir, default target/artifacts):
+ *  - <test>/screenshot.png, page-source.html.gz, failure.json
+ *  - .store/<sha-256>.<ext>  content-addressed copy, hard-linked from the
+ *    per-test paths (copied where the file system has no hard links)
+ *
+ * The paths are decided up front by submit(), so the report can link them
+ * before the files exist. The executor is bounded: when its queue is full
+ * the submitting thread does the work itself instead of piling up memory.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class ArtifactWriter {
+
+    private static final Logger LOG = LogManager.getLogger(ArtifactWriter.class);
+    private static final Json JSON = new Json();
+
+    private final Path rootDir;
+    private final Path storeDir;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicInteger filesWritten = new AtomicInteger();
+    private final AtomicInteger filesDeduplicated = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    public ArtifactWriter(Path rootDir, int threads, int queueSize) {
+        this.rootDir = rootDir;
+        this.storeDir = rootDir.resolve(".store");
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "artifact-writer-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    // ==================== PUBLIC METHODS (External API) ====================
+
+    /**
+     * Schedule a capture to be written
+     *
+     * @return display name -> file it WILL be written to (only what was captured)
+     */
+    public Map<String, Path> submit(FailureCapture capture) {
+        Path testDir = rootDir.resolve(capture.getTestId());
+        Map<String, Path> files = new LinkedHashMap<>();
+        if (capture.hasScreenshot()) {
+            files.put("Screenshot", testDir.resolve("screenshot.png"));
+        }
+        if (capture.hasPageSource()) {
+            files.put("Page source", testDir.resolve("page-source.html.gz"));
+        }
+        files.put("URL and console log", testDir.resolve("failure.json"));
+
+        executor.execute(() -> write(capture, testDir));
+        return files;
+    }
+
+    /**
+     * Wait for pending writes - called once at the end of the suite
+     */
+    public void close(Duration timeout) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOG.warn("Failure artifacts still being written after {}s, giving up", timeout.getSeconds());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (filesWritten.get() + filesDeduplicated.get() + failures.get() > 0) {
+            LOG.info("Failure artifacts: {} written, {} deduplicated, {} failed - {}",
+                    filesWritten.get(), filesDeduplicated.get(), failures.get(), rootDir.toAbsolutePath());
+        }
+    }
+
+    // ==================== BACKGROUND WORK ====================
+
+    private void write(FailureCapture capture, Path testDir) {
+        try {
+            Files.createDirectories(testDir);
+            if (capture.hasScreenshot()) {
+                byte[] png = Base64.getMimeDecoder().decode(capture.getScreenshotBase64());
+                storeAndLink(png, false, "png", testDir.resolve("screenshot.png"));
+            }
+            if (capture.hasPageSource()) {
+                byte[] html = capture.getPageSource().getBytes(StandardCharsets.UTF_8);
+                storeAndLink(html, true, "html.gz", testDir.resolve("page-source.html.gz"));
+            }
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("test", capture.getTestId());
+            details.put("capturedAt", capture.getCapturedAt().toString());
+            details.put("url", capture.getUrl());
+            details.put("console", capture.getConsoleLines());
+            Files.write(testDir.resolve("failure.json"), JSON.toJson(details).getBytes(StandardCharsets.UTF_8));
+            filesWritten.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            LOG.warn("Could not write failure artifacts of {}: {}", capture.getTestId(), e.toString());
+        }
+    }
+
+    /**
+     * Write content once under its hash, then link the per-test path to it
+     * Identical content is hashed but never compressed or written twice
+     */
+    private void storeAndLink(byte[] content, boolean gzip, String extension, Path target) throws IOException {
+        String name = sha256(content) + "." + extension;
+        Path stored = storeDir.resolve(name);
+        if (Files.exists(stored)) {
+            filesDeduplicated.incrementAndGet();
+        } else {
+            Files.createDirectories(storeDir);
+            Path temp = storeDir.resolve(name + "." + Thread.currentThread().getId() + ".tmp");
+            Files.write(temp, gzip ? gzip(content) : content);
+            try {
+                // Publish atomically; fails if another thread stored the same content first
+                Files.createLink(stored, temp);
+                filesWritten.incrementAndGet();
+            } catch (FileAlreadyExistsException e) {
+                filesDeduplicated.incrementAndGet();
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.move(temp, stored, StandardCopyOption.REPLACE_EXISTING);
+                filesWritten.incrementAndGet();
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, stored);
+        } catch (FileAlreadyExistsException e) {
+            // Same test captured twice concurrently - either copy is fine
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(stored, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(content);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.orangehrm.artifacts;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * FailureCapture - Raw state of the browser at the moment a test failed
+ *
+ * Only what must come from the browser is done here, on the test thread:
+ * the screenshot stays base64 exactly as WebDriver returns it, the page
+ * source a plain string. Decoding, compressing and writing are left to
+ * ArtifactWriter's background threads.
+ *
+ * Each piece is captured independently: a crashed browser still yields
+ * whatever it can, never a second exception.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class FailureCapture {
+
+    private final String testId;
+    private final Instant capturedAt = Instant.now();
+    private final String url;
+    private final String screenshotBase64;
+    private final String pageSource;
+    private final List<String> consoleLines;
+
+    private FailureCapture(String testId, String url, String screenshotBase64,
+                           String pageSource, List<String> consoleLines) {
+        this.testId = testId;
+        this.url = url;
+        this.screenshotBase64 = screenshotBase64;
+        this.pageSource = pageSource;
+        this.consoleLines = consoleLines;
+    }
+
+    /**
+     * Grab the raw failure state - a few round trips to the browser, no I/O
+     *
+     * @param sinceMillis console entries older than this belong to earlier
+     *                    tests on the same pooled browser and are skipped
+     */
+    public static FailureCapture take(WebDriver driver, String testId, long sinceMillis) {
+        String url = null;
+        String screenshot = null;
+        String source = null;
+        List<String> console = Collections.emptyList();
+        try {
+            url = driver.getCurrentUrl();
+        } catch (RuntimeException e) {
+            // Browser gone - nothing else will work either
+            return new FailureCapture(testId, null, null, null, console);
+        }
+        if (driver instanceof TakesScreenshot) {
+            try {
+                screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+            } catch (RuntimeException e) {
+                // e.g. an alert is open - keep the rest
+            }
+        }
+        try {
+            source = driver.getPageSource();
+        } catch (RuntimeException e) {
+            // Keep the rest
+        }
+        try {
+            console = new ArrayList<>();
+            for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+                if (entry.getTimestamp() >= sinceMillis) {
+                    console.add(Instant.ofEpochMilli(entry.getTimestamp()) + " " + entry.getLevel() + " "
+                            + entry.getMessage());
+                }
+            }
+        } catch (RuntimeException e) {
+            // Browser logging not enabled for this session
+        }
+        return new FailureCapture(testId, url, screenshot, source, console);
+    }
+
+    public String getTestId() {
+        return testId;
+    }
+
+    public Instant getCapturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * @return null if the browser could not be reached
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    String getScreenshotBase64() {
+        return screenshotBase64;
+    }
+
+    String getPageSource() {
+        return pageSource;
+    }
+
+    List<String> getConsoleLines() {
+        return consoleLines;
+    }
+
+    boolean hasScreenshot() {
+        return screenshotBase64 != null;
+    }
+
+    boolean hasPageSource() {
+        return pageSource != null;
+    }
+}
@@ -1,11 +1,35 @@
 package com.orangehrm.base;
 
+import com.orangehrm.config.FrameworkConfig;
+import com.orangehrm.logging.LogContext;
+import com.orangehrm.metrics.ActionMetrics;
+import com.orangehrm.metrics.LocatorProfiler;
+import com.orangehrm.network.ActivityTracker;
+import com.orangehrm.network.NetworkActivity;
+import com.orangehrm.reporting.ReportStep;
+import com.orangehrm.reporting.ReportSteps;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import  org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * BasePage - Parent class for all page Objects
@@ -18,18 +42,57 @@ import java.time.Duration;
  *
  *  Design Pattern: Inheritance + Encapsulation
  *
+ *  Waiting: every wait goes through WaitEngine (explicit, with backoff).
+ *  Implicit waits are off, so a negative check never pays a hidden timeout.
+ *
+ *  Readiness: a page object declares a PageContract (URL, anchor elements,
+ *  no loading spinner) and isReady()/awaitReady() check it in one script
+ *  per poll, so drivers can run with the "eager" or "none" load strategy.
+ *
+ *  Network idle: waitForNetworkIdle() returns once the application's own
+ *  XHR/fetch calls have settled (ActivityTracker), for actions whose real
+ *  completion is an API call rather than an element appearing.
+ *
+ *  Element cache (optional, -Delement.cache.enabled=true or per page via
+ *  setElementCacheEnabled): resolved elements are reused until navigation,
+ *  a URL change or a stale element; a stale hit is looked up again and
+ *  the action retried transparently.
+ *
+ *  Timing: every primitive reports to ActionMetrics, split into wait time
+ *  (lookup/polling) and command time (the actual click, type, read).
+ *  Page methods wrap themselves in timed(...) for a per-method view.
+ *
+ *  Locator profiling (optional, -Dlocator.profile.enabled=true): every
+ *  locator use is counted and its first lookups are also resolved inside
+ *  the browser to time them and count matches (LocatorProfiler).
+ *
+ *  Logging: timed(...) also names the current step in the log context,
+ *  so every line written inside it (framework or page) carries the step,
+ *  and adds it (with its duration) to the test's HTML report.
+ *
+ *  Thread safety: a page object is confined to the thread that created it.
+ *  Using it from another thread fails fast instead of driving someone
+ *  else's browser in a parallel run.
+ *
  * @author Zain Ul Rehman
  * @project ORANGEHRM Automation Framework
  */
 public class BasePage {
 
+    // In-browser resolutions averaged per locator probe (timer granularity is ~0.1 ms)
+    private static final int PROBE_REPEATS = 5;
+
     protected WebDriver driver;
-    protected WebDriverWait wait;
+    protected WaitEngine waits;
+    protected final Logger log = LogManager.getLogger(getClass());
+    private final ElementCache elementCache = new ElementCache(FrameworkConfig.elementCacheEnabled());
+    private final Thread ownerThread;
 
     // Constructor - initialize when page object is created
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.waits = new WaitEngine(driver);
+        this.ownerThread = Thread.currentThread();
     }
 
 
@@ -42,7 +105,18 @@ public class BasePage {
      * Real scenario: Page loading slowly, element appears after 2 seconds
      */
     protected WebElement findElement(By locator) {
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        checkThread();
+        return withElement("findElement", locator, waits::presence, element -> element);
+    }
+
+    /**
+     * Same as findElement(By), with a per-call timeout
+     */
+    protected WebElement findElement(By locator, Duration timeout) {
+        checkThread();
+        WebElement element = measure("findElement", locator, true, () -> waits.presence(locator, timeout));
+        profile(locator, true);
+        return element;
     }
 
     /**
@@ -54,7 +128,11 @@ public class BasePage {
      */
 
     protected void click(By locator) {
-        wait.until(ExpectedConditions.presenceOfElementLocated(locator)).click();
+        checkThread();
+        withElement("click", locator, waits::clickable, element -> {
+            element.click();
+            return null;
+        });
     }
 
     /**
@@ -66,9 +144,12 @@ public class BasePage {
      */
 
     protected void type(By locator, String text) {
-        WebElement element = findElement(locator);
-        element.clear();
-        element.sendKeys(text);
+        checkThread();
+        withElement("type", locator, waits::presence, element -> {
+            element.clear();
+            element.sendKeys(text);
+            return null;
+        });
     }
 
     /**
@@ -76,21 +157,65 @@ public class BasePage {
      * Waits for element to be present first
      */
     protected String getText(By locator) {
-        return findElement(locator).getText();
+        checkThread();
+        return withElement("getText", locator, waits::presence, WebElement::getText);
     }
 
     /**
      * Check if element is displayed
-     * Returns true if visible, false otherwise
+     * Waits up to the default timeout for it to become visible
+     * Returns true if visible, false if it never showed up
      *
      * Real scenario: Verify error message appears after invalid login
      */
     protected  boolean isDisplayed(By locator) {
-        try {
-            return findElement(locator).isDisplayed();
-        } catch (Exception e) {
-            return false;
+        return isDisplayed(locator, waits.getDefaultTimeout());
+    }
+
+    /**
+     * Same as isDisplayed(By), with a per-call timeout
+     */
+    protected boolean isDisplayed(By locator, Duration timeout) {
+        checkThread();
+        WebElement cached = elementCache.get(locator);
+        if (cached != null) {
+            try {
+                if (measure("isDisplayed", locator, false, cached::isDisplayed)) {
+                    profile(locator, false);
+                    return true;
+                }
+            } catch (StaleElementReferenceException e) {
+                elementCache.invalidate();
+            }
         }
+        boolean displayed = measure("isDisplayed", locator, true, () -> waits.isVisible(locator, timeout));
+        profile(locator, true);
+        return displayed;
+    }
+
+    /**
+     * Check that an element is NOT displayed - answers immediately
+     * No polling: absent elements return true in milliseconds
+     *
+     * Real scenario: Verify no error message after a valid login
+     */
+    protected boolean isNotDisplayed(By locator) {
+        checkThread();
+        boolean absent = measure("isNotDisplayed", locator, false, () -> waits.isAbsentNow(locator));
+        profile(locator, true);
+        return absent;
+    }
+
+    /**
+     * Wait for an element to disappear (or be hidden)
+     *
+     * Real scenario: Loading spinner must go away before we continue
+     */
+    protected boolean waitForAbsence(By locator, Duration timeout) {
+        checkThread();
+        boolean absent = measure("waitForAbsence", locator, true, () -> waits.waitForAbsence(locator, timeout));
+        profile(locator, true);
+        return absent;
     }
 
     /**
@@ -101,7 +226,422 @@ public class BasePage {
      */
 
     protected void waitForUrl(String urlFragment) {
-        wait.until(ExpectedConditions.urlContains(urlFragment));
+        checkThread();
+        measure("waitForUrl", null, true, () -> {
+            waits.urlContains(urlFragment);
+            return null;
+        });
+        // We waited for a navigation: nothing cached before it is trustworthy
+        elementCache.invalidate();
+    }
+
+    // ==================== NETWORK IDLE ====================
+
+    /**
+     * Wait until the application made no XHR/fetch call for network.idle.quietMillis
+     * Also records how many calls the action caused, under its name
+     *
+     * @param action name the request counts are reported under, e.g. "LoginPage.clickLoginButton"
+     * Real scenario: After login the dashboard widgets fetch their data
+     */
+    protected NetworkActivity waitForNetworkIdle(String action) {
+        return waitForNetworkIdle(action, FrameworkConfig.networkQuietPeriod(), waits.getDefaultTimeout());
+    }
+
+    /**
+     * Same, with an explicit quiet period and timeout
+     * Never throws on timeout: a page that keeps polling must not fail the test here
+     */
+    protected NetworkActivity waitForNetworkIdle(String action, Duration quietPeriod, Duration timeout) {
+        checkThread();
+        NetworkActivity activity = measure("waitForNetworkIdle", null, true,
+                () -> ActivityTracker.awaitIdle(driver, quietPeriod, timeout));
+        ActionMetrics.recordRequests(action, activity.getRequests(), activity.getFailed());
+        if (activity.isIdle()) {
+            log.debug("{}: network {}", action, activity);
+        } else {
+            log.warn("{}: network {}", action, activity);
+        }
+        if (activity.getUrl() != null) {
+            elementCache.onUrlObserved(activity.getUrl());
+        }
+        return activity;
+    }
+
+    // ==================== PAGE READINESS ====================
+
+    /**
+     * Readiness contract of this page
+     * Override in page objects; pages without one cannot use isReady()
+     */
+    protected PageContract contract() {
+        return null;
+    }
+
+    /**
+     * Wait up to the default timeout for this page's contract
+     * For checks that may legitimately be false; a test that EXPECTS the
+     * page should call awaitReady(), so a slow page fails with a
+     * TimeoutException (retried as transient) rather than an AssertionError
+     *
+     * @return false if the page was not ready in time
+     * Real scenario: Invalid login - the dashboard must NOT open
+     */
+    public boolean isReady() {
+        return isReady(waits.getDefaultTimeout());
+    }
+
+    public boolean isReady(Duration timeout) {
+        return isReady(requireContract(), timeout);
+    }
+
+    /**
+     * Same as isReady(), failing with what was still missing
+     *
+     * Real scenario: after login, the test needs the dashboard to be usable
+     */
+    public void awaitReady() {
+        awaitReady(requireContract(), waits.getDefaultTimeout());
+    }
+
+    /**
+     * Wait for any contract, failing with what was still missing
+     * Real scenario: a navigation helper that must not continue on a half-rendered page
+     */
+    protected void awaitReady(PageContract contract, Duration timeout) {
+        checkThread();
+        awaitContract(contract, timeout);
+    }
+
+    /**
+     * Wait for any contract - e.g. the page a click navigates to
+     */
+    protected boolean isReady(PageContract contract, Duration timeout) {
+        checkThread();
+        try {
+            awaitContract(contract, timeout);
+            return true;
+        } catch (TimeoutException e) {
+            log.debug(e.getMessage());
+            return false;
+        }
+    }
+
+    private PageContract requireContract() {
+        PageContract contract = contract();
+        if (contract == null) {
+            throw new IllegalStateException(getClass().getSimpleName() + " declares no PageContract");
+        }
+        return contract;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void awaitContract(PageContract contract, Duration timeout) {
+        List<Map<String, Object>> anchors = new ArrayList<>();
+        for (By anchor : contract.getAnchors()) {
+            anchors.add(toScriptLocator(anchor));
+        }
+        Map<String, Object> busy = contract.getBusyIndicator() == null ? null
+                : toScriptLocator(contract.getBusyIndicator());
+        String script = Scripts.load("page-ready.js");
+        // Last poll, to say what was still missing on timeout
+        AtomicReference<Map<String, Object>> last = new AtomicReference<>();
+
+        long start = System.nanoTime();
+        try {
+            waits.until(d -> {
+                Map<String, Object> state = (Map<String, Object>) ((JavascriptExecutor) d)
+                        .executeScript(script, anchors, busy);
+                last.set(state);
+                return isMet(contract, state) ? Boolean.TRUE : null;
+            }, timeout);
+        } catch (TimeoutException e) {
+            throw new TimeoutException(contract.getName() + " not ready after " + timeout.getSeconds() + "s: "
+                    + (last.get() == null ? "no answer from the page" : unmet(contract, last.get())), e);
+        } finally {
+            ActionMetrics.record("awaitReady", contract.getName(), System.nanoTime() - start, 0);
+        }
+        // New page: elements cached on the previous one are gone
+        elementCache.onUrlObserved((String) last.get().get("url"));
+    }
+
+    private static boolean isMet(PageContract contract, Map<String, Object> state) {
+        return !"loading".equals(state.get("readyState"))
+                && contract.matchesUrl((String) state.get("url"))
+                && ((List<?>) state.get("missing")).isEmpty()
+                && !Boolean.TRUE.equals(state.get("busy"));
+    }
+
+    private static String unmet(PageContract contract, Map<String, Object> state) {
+        List<String> unmet = new ArrayList<>();
+        if ("loading".equals(state.get("readyState"))) {
+            unmet.add("document still loading");
+        }
+        if (!contract.matchesUrl((String) state.get("url"))) {
+            unmet.add("URL " + state.get("url") + " does not match " + contract.getUrlPattern());
+        }
+        for (Object index : (List<?>) state.get("missing")) {
+            unmet.add("not visible: " + contract.getAnchors().get(((Number) index).intValue()));
+        }
+        if (Boolean.TRUE.equals(state.get("busy"))) {
+            unmet.add("still busy: " + contract.getBusyIndicator());
+        }
+        return String.join(", ", unmet);
+    }
+
+    // ==================== BATCHED SNAPSHOTS ====================
+
+    /**
+     * Read visibility, text, enabled state and attributes of many elements
+     * in ONE executed script instead of several commands per element
+     *
+     * @param locators   name -> locator, names are how results are looked up
+     * @param attributes attribute names to read from every element
+     * Real scenario: Verify all sidebar menus are visible in one call
+     */
+    @SuppressWarnings("unchecked")
+    protected PageSnapshot snapshot(Map<String, By> locators, String... attributes) {
+        checkThread();
+        profile(locators.values(), true);
+        List<Map<String, Object>> specs = new ArrayList<>();
+        for (By locator : locators.values()) {
+            specs.add(toScriptLocator(locator));
+        }
+        List<Map<String, Object>> states = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                .executeScript(Scripts.load("element-snapshot.js"), specs, Arrays.asList(attributes));
+
+        Map<String, ElementState> result = new LinkedHashMap<>();
+        int index = 0;
+        for (String name : locators.keySet()) {
+            result.put(name, toElementState(states.get(index++)));
+        }
+        return new PageSnapshot(result);
+    }
+
+    /**
+     * Snapshot of the elements this page declares as its key elements
+     */
+    public PageSnapshot snapshot() {
+        return snapshot(keyElements());
+    }
+
+    /**
+     * Key elements of the page, by name
+     * Override in page objects that want a one-call snapshot()
+     */
+    protected Map<String, By> keyElements() {
+        return Collections.emptyMap();
+    }
+
+    private static Map<String, Object> toScriptLocator(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator cannot be sent to the browser: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        Map<String, Object> spec = new HashMap<>();
+        spec.put("using", parameters.using());
+        spec.put("value", parameters.value());
+        return spec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ElementState toElementState(Map<String, Object> state) {
+        if (!Boolean.TRUE.equals(state.get("present"))) {
+            return ElementState.ABSENT;
+        }
+        Map<String, String> attributes = new HashMap<>();
+        Map<String, Object> raw = (Map<String, Object>) state.get("attributes");
+        if (raw != null) {
+            raw.forEach((name, value) -> attributes.put(name, value == null ? null : String.valueOf(value)));
+        }
+        return new ElementState(true,
+                Boolean.TRUE.equals(state.get("visible")),
+                Boolean.TRUE.equals(state.get("enabled")),
+                String.valueOf(state.get("text")),
+                attributes);
+    }
+
+    // ==================== TIMING ====================
+
+    /**
+     * Time a page-object method, e.g. timed("LoginPage.login", () -> ...)
+     * Reported with the wait time of all primitives it called
+     */
+    protected <T> T timed(String action, Supplier<T> body) {
+        String previousStep = LogContext.enterStep(action);
+        ReportStep reportStep = ReportSteps.actionStarted(action);
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = ActionMetrics.time(action, body);
+            failed = false;
+            return result;
+        } finally {
+            ReportSteps.actionFinished(reportStep, System.nanoTime() - start, failed);
+            LogContext.restoreStep(previousStep);
+        }
+    }
+
+    protected void timed(String action, Runnable body) {
+        timed(action, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Log a business-level step ("Open Admin module") and tag what follows with it
+     * Stays the current step until the next step() or the end of the test
+     */
+    protected void step(String description) {
+        LogContext.enterStep(description);
+        ReportSteps.info(description);
+        log.info(description);
+    }
+
+    /**
+     * Time a single primitive that is either all waiting or all command
+     */
+    private static <T> T measure(String action, By locator, boolean waiting, Supplier<T> body) {
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            ActionMetrics.record(action, locator, waiting ? elapsed : 0, waiting ? 0 : elapsed);
+        }
+    }
+
+    // ==================== LOCATOR PROFILING ====================
+
+    private void profile(By locator, boolean lookup) {
+        if (LocatorProfiler.isEnabled()) {
+            profile(Collections.singletonList(locator), lookup);
+        }
+    }
+
+    /**
+     * Report locator uses to LocatorProfiler and time the sampled ones in the browser
+     * All sampled locators are resolved in ONE script, outside every action timing
+     *
+     * @param lookup true if the browser resolved them, false for element cache hits
+     */
+    @SuppressWarnings("unchecked")
+    private void profile(Collection<By> locators, boolean lookup) {
+        if (!LocatorProfiler.isEnabled()) {
+            return;
+        }
+        List<By> sampled = new ArrayList<>();
+        List<Map<String, Object>> specs = new ArrayList<>();
+        for (By locator : locators) {
+            String key = String.valueOf(locator);
+            LocatorProfiler.recordUse(key, lookup);
+            if (lookup && locator instanceof By.Remotable && LocatorProfiler.claimSample(key)) {
+                sampled.add(locator);
+                specs.add(toScriptLocator(locator));
+            }
+        }
+        if (sampled.isEmpty()) {
+            return;
+        }
+        Map<String, Object> probe;
+        try {
+            probe = (Map<String, Object>) ((JavascriptExecutor) driver)
+                    .executeScript(Scripts.load("locator-probe.js"), specs, PROBE_REPEATS);
+        } catch (WebDriverException e) {
+            // Page unloading under us - the sample is lost, the test is not
+            log.debug("Locator probe failed: {}", e.getMessage());
+            return;
+        }
+        int domSize = ((Number) probe.get("domSize")).intValue();
+        List<Map<String, Object>> results = (List<Map<String, Object>>) probe.get("locators");
+        for (int i = 0; i < sampled.size(); i++) {
+            Map<String, Object> result = results.get(i);
+            Map<String, Object> spec = specs.get(i);
+            if (result.get("error") != null) {
+                log.debug("Locator probe of {} failed: {}", sampled.get(i), result.get("error"));
+                continue;
+            }
+            LocatorProfiler.recordResolution(String.valueOf(sampled.get(i)),
+                    (String) spec.get("using"), (String) spec.get("value"),
+                    ((Number) result.get("micros")).doubleValue(),
+                    ((Number) result.get("matches")).intValue(), domSize);
+        }
+    }
+
+    // ==================== ELEMENT CACHE ====================
+
+    /**
+     * Run an action on an element, using the cache when possible
+     *
+     * Cache hit  -> act on it directly (no lookup round trip)
+     * Stale hit  -> cache cleared, fresh lookup, retry the action
+     * Not ready  -> (e.g. covered by a spinner) fall back to the waiting lookup
+     * Miss       -> waiting lookup, remember the element, act
+     */
+    protected <T> T withElement(String actionName, By locator,
+                                Function<By, WebElement> lookup, Function<WebElement, T> action) {
+        long waitNanos = 0;
+        long commandNanos = 0;
+        long start = System.nanoTime();
+        try {
+            WebElement cached = elementCache.get(locator);
+            if (cached != null) {
+                try {
+                    T result = action.apply(cached);
+                    profile(locator, false);
+                    return result;
+                } catch (StaleElementReferenceException e) {
+                    elementCache.invalidate();
+                } catch (ElementNotInteractableException e) {
+                    // Still attached, just not ready yet - wait for it below
+                } finally {
+                    commandNanos += System.nanoTime() - start;
+                }
+            }
+
+            long lookupStart = System.nanoTime();
+            WebElement element = lookup.apply(locator);
+            waitNanos += System.nanoTime() - lookupStart;
+            elementCache.put(locator, element);
+            // Before the action: a click may navigate away from what the lookup saw
+            profile(locator, true);
+
+            long actionStart = System.nanoTime();
+            try {
+                return action.apply(element);
+            } catch (StaleElementReferenceException e) {
+                // Re-rendered between lookup and action: one transparent retry
+                elementCache.invalidate();
+                long retryStart = System.nanoTime();
+                element = lookup.apply(locator);
+                waitNanos += System.nanoTime() - retryStart;
+                elementCache.put(locator, element);
+                actionStart = System.nanoTime();
+                return action.apply(element);
+            } finally {
+                commandNanos += System.nanoTime() - actionStart;
+            }
+        } finally {
+            ActionMetrics.record(actionName, locator, waitNanos, commandNanos);
+        }
+    }
+
+    /**
+     * Turn the element cache on or off for this page object
+     * Pages with heavy repeated interactions (login form) benefit most
+     */
+    protected void setElementCacheEnabled(boolean enabled) {
+        elementCache.setEnabled(enabled);
+    }
+
+    /**
+     * Forget every cached element
+     * Call after navigating in a way the page object can't see
+     */
+    public void invalidateElementCache() {
+        checkThread();
+        elementCache.invalidate();
     }
 
     // ==================== PUBLIC METHODS (External API) ====================
@@ -113,7 +653,10 @@ public class BasePage {
      * @return Current page URL
      */
     public String getPageUrl() {
-        return driver.getCurrentUrl();
+        checkThread();
+        String url = driver.getCurrentUrl();
+        elementCache.onUrlObserved(url);
+        return url;
     }
 
     /**
@@ -123,6 +666,21 @@ public class BasePage {
      * @return Current page title
      */
     public String getPageTitle() {
+        checkThread();
         return driver.getTitle();
     }
+
+    // ==================== THREAD CONFINEMENT ====================
+
+    /**
+     * Fail fast if this page object is used outside its owner thread
+     *
+     * Real scenario: a page stored in a shared test field during a parallel run
+     */
+    protected void checkThread() {
+        if (Thread.currentThread() != ownerThread) {
+            throw new IllegalStateException(getClass().getSimpleName() + " belongs to thread '"
+                    + ownerThread.getName() + "' but was used from '" + Thread.currentThread().getName() + "'");
+        }
+    }
 }
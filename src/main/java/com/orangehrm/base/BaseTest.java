@@ -1,12 +1,33 @@
 package com.orangehrm.base;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.orangehrm.api.ApiClient;
+import com.orangehrm.api.ApiFixtures;
+import com.orangehrm.api.ApiSession;
+import com.orangehrm.config.FrameworkConfig;
+import com.orangehrm.driver.DriverFactory;
+import com.orangehrm.driver.DriverManager;
+import com.orangehrm.driver.DriverPool;
+import com.orangehrm.driver.FreshBrowser;
+import com.orangehrm.listeners.MetricsListener;
+import com.orangehrm.logging.LogContext;
+import com.orangehrm.network.FullPageLoad;
+import com.orangehrm.network.NetworkInterceptor;
+import com.orangehrm.pages.DashboardPage;
+import com.orangehrm.pages.LoginPage;
+import com.orangehrm.reporting.ReportSteps;
+import com.orangehrm.session.SessionCache;
+import com.orangehrm.session.SessionSnapshot;
+import com.orangehrm.standin.StandInServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
+import java.lang.reflect.Method;
 import java.time.Duration;
 
 
@@ -14,69 +35,227 @@ import java.time.Duration;
  * BaseTest - Foundation class for all test classes
  * Handles WebDriver lifecycle and common configurations
  *
+ * Browsers come from a shared DriverPool: each test borrows a warm
+ * session in Setup() and returns it in teardown(), so the suite pays
+ * for browser launches only once per pool slot, not once per test.
+ * @FreshBrowser tests get a never-used one, launched ahead in the background.
+ *
+ * Thread safety: the browser lives in DriverManager's ThreadLocal, never
+ * in a field, so one test instance can be shared by parallel workers.
+ * Always reach it through getDriver() / getWait().
+ *
+ * Logging: Setup() tags the thread's log context with the test and the
+ * browser session, so each test's lines also land in its own log file.
+ *
  * @author Zain Ul Rehman
  * @project OrangeHRM Automation Framework
  * @date January 2026
  */
 public class BaseTest {
 
-    protected WebDriver driver;
-    protected WebDriverWait wait;
+    private static final Logger LOG = LogManager.getLogger(BaseTest.class);
 
-    // Application URLs
-    protected static final String BASE_URL = "https://opensource-demo.orangehrmlive.com/";
+    // Application URL: embedded stand-in by default, -Dbase.url=demo or any real instance
+    protected static final String BASE_URL = resolveBaseUrl();
 
     // Test Credentials
     protected static final String USERNAME = "Admin";
     protected static final String PASSWORD = "admin123";
 
     // Timeouts
-    protected static final int IMPLICIT_WAIT = 10;
-    protected static final int EXPLICIT_WAIT = 15;
+    // Implicit wait stays at 0: all waiting is explicit (WaitEngine),
+    // otherwise the two multiply and negative checks take seconds
+    protected static final int IMPLICIT_WAIT = 0;
+    protected static final int EXPLICIT_WAIT = (int) FrameworkConfig.waitTimeout().getSeconds();
     protected static final int PAGE_LOAD_TIMEOUT = 30;
 
+    // Warm browser sessions shared by every test class in the JVM
+    private static final DriverFactory DRIVER_FACTORY =
+            new DriverFactory(Duration.ofSeconds(IMPLICIT_WAIT), Duration.ofSeconds(PAGE_LOAD_TIMEOUT));
+    private static final DriverPool DRIVER_POOL = new DriverPool(
+            FrameworkConfig.poolSize(),
+            FrameworkConfig.poolMaxReuse(),
+            FrameworkConfig.poolLookAhead(),
+            BASE_URL,
+            () -> DRIVER_FACTORY.createDriver(BASE_URL),
+            DRIVER_FACTORY::quit);
+
+    // API fixtures of the running test, removed in teardown()
+    private static final ThreadLocal<ApiFixtures> FIXTURES = new ThreadLocal<>();
+
+    // Logger named after the concrete test class
+    protected final Logger log = LogManager.getLogger(getClass());
+
     /**
      * Setup method - Runs before each test
-     * Initializes WebDriver and navigates to application
+     * Borrows a clean browser from the pool, already on the application
+     * (a never-used one for @FreshBrowser tests)
+     * and applies the network profile (off for @FullPageLoad tests)
      */
 
     @BeforeMethod
-    public void Setup(){
-        System.out.println("========================================");
-        System.out.println("🚀 INITIALIZING ORANGEHRM TEST FRAMEWORK");
-        System.out.println("========================================");
-
-        // Setup ChromeDriver automatically
-        WebDriverManager.chromedriver().setup();
-
-        // Chrome options for stable execution
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--start-maximized");
-        options.addArguments("--disabled-notification");
-        options.addArguments("disable-popup-blocking");
-
-        driver = new ChromeDriver(options);
-
-        // Configure timeouts
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(IMPLICIT_WAIT));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(PAGE_LOAD_TIMEOUT));
-        wait = new WebDriverWait(driver, Duration.ofSeconds(EXPLICIT_WAIT));
-
-        // Navigate to application
-        driver.get(BASE_URL);
-        System.out.println("✅ Navigated to: " + BASE_URL);
+    public void Setup(Method testMethod, ITestResult result){
+        LogContext.beginTest(MetricsListener.testId(result));
+        ReportSteps.begin();
+
+        WebDriver driver = isFreshBrowser(testMethod) ? DRIVER_POOL.borrowFresh() : DRIVER_POOL.borrow();
+        DriverManager.setDriver(driver);
+        if (driver instanceof RemoteWebDriver) {
+            LogContext.setSession(String.valueOf(((RemoteWebDriver) driver).getSessionId()));
+        }
+
+        NetworkInterceptor network = NetworkInterceptor.forDriver(driver);
+        if (network != null) {
+            network.setBlocking(!isFullPageLoad(testMethod));
+            network.resetStats();
+        }
+
+        LOG.info("Starting {} on {}", testMethod.getName(), BASE_URL);
     }
 
     /**
      * Teardown method - Runs after each test
-     * Closes browser and cleans up resources
+     * Returns the browser to the pool, which resets it for the next test
      */
-    @AfterMethod
+    @AfterMethod(alwaysRun = true)
     public void teardown(){
-        if(driver != null){
-            driver.quit();
-            System.out.println("❌ Browser closed");
-            System.out.println("========================================\n");
+        ApiFixtures fixtures = FIXTURES.get();
+        if (fixtures != null) {
+            FIXTURES.remove();
+            try {
+                fixtures.close();
+            } catch (RuntimeException e) {
+                // Leftover data must not turn a passed test red
+                LOG.warn("Could not remove API fixtures: {}", e.getMessage());
+            }
+        }
+        if(DriverManager.hasDriver()){
+            WebDriver driver = DriverManager.getDriver();
+            DriverManager.unload();
+
+            NetworkInterceptor network = NetworkInterceptor.forDriver(driver);
+            if (network != null) {
+                LOG.info("Network: {}", network.getStats());
+            }
+            DRIVER_POOL.release(driver);
+            LOG.debug("Browser returned to pool");
         }
+        // Normally already handed to ReportListener - drop it when no listener runs
+        ReportSteps.end();
+        LogContext.endTest();
+    }
+
+    private static String resolveBaseUrl() {
+        String configured = FrameworkConfig.baseUrl();
+        if (configured != null) {
+            return configured;
+        }
+        String url = StandInServer.shared(FrameworkConfig.standInPort()).getBaseUrl();
+        LOG.info("Using embedded OrangeHRM stand-in at {}", url);
+        return url;
+    }
+
+    private static boolean isFullPageLoad(Method testMethod) {
+        return testMethod.isAnnotationPresent(FullPageLoad.class)
+                || testMethod.getDeclaringClass().isAnnotationPresent(FullPageLoad.class);
+    }
+
+    private static boolean isFreshBrowser(Method testMethod) {
+        return testMethod.isAnnotationPresent(FreshBrowser.class)
+                || testMethod.getDeclaringClass().isAnnotationPresent(FreshBrowser.class);
+    }
+
+    // ==================== THREAD-SAFE ACCESSORS ====================
+
+    /**
+     * Browser owned by the current test thread
+     */
+    protected WebDriver getDriver() {
+        return DriverManager.getDriver();
+    }
+
+    /**
+     * Wait engine bound to the current thread's browser
+     * Same engine the page objects use - there is no second wait mechanism
+     */
+    protected WaitEngine getWait() {
+        return new WaitEngine(getDriver());
+    }
+
+    /**
+     * Create test data through the HTTP API, as the browser's logged-in user
+     * Call after logging in; everything created is deleted after the test
+     *
+     * Real scenario: PIM search test seeds 500 employees in seconds, not via the form
+     */
+    protected ApiFixtures fixtures() {
+        ApiFixtures fixtures = FIXTURES.get();
+        if (fixtures == null) {
+            fixtures = new ApiFixtures(new ApiClient(BASE_URL, ApiSession.fromDriver(getDriver())));
+            FIXTURES.set(fixtures);
+        }
+        return fixtures;
+    }
+
+    // ==================== AUTHENTICATION HELPERS ====================
+
+    /**
+     * Get an authenticated dashboard, skipping the login form when possible
+     * Opt-in: only tests that don't verify the login itself should use this
+     *
+     * 1. A cached snapshot exists -> inject cookies/storage, open dashboard
+     * 2. Server rejects it (expired) -> drop the snapshot, fall through
+     * 3. Real UI login, then capture a snapshot for the next tests
+     *
+     * Real scenario: Dashboard tests need a logged-in user, not the login flow
+     */
+    protected DashboardPage loginWithCachedSession(String username, String password) {
+        WebDriver driver = getDriver();
+
+        SessionSnapshot snapshot = SessionCache.get(username);
+        if (snapshot != null && FrameworkConfig.sessionReuseEnabled()) {
+            if (snapshot.isOlderThan(FrameworkConfig.sessionTtl())) {
+                SessionCache.invalidate(username, snapshot);
+            } else {
+                snapshot.restore(driver);
+                driver.get(BASE_URL + DashboardPage.PATH);
+                DashboardPage dashboardPage = new DashboardPage(driver);
+                if (dashboardPage.isSessionActive()) {
+                    LOG.info("Reused authenticated session");
+                    return dashboardPage;
+                }
+                LOG.info("Cached session expired, logging in again");
+                SessionCache.invalidate(username, snapshot);
+                driver.manage().deleteAllCookies();
+                driver.get(BASE_URL);
+            }
+        }
+
+        DashboardPage dashboardPage = new LoginPage(driver).login(username, password);
+        if (FrameworkConfig.sessionReuseEnabled() && dashboardPage.isDashboardDisplayed()) {
+            SessionCache.put(username, SessionSnapshot.capture(driver));
+        }
+        return dashboardPage;
+    }
+
+    /**
+     * Suite setup - Every run starts with empty per-test log files
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void clearTestLogs() {
+        LogContext.clearTestLogs();
+    }
+
+    /**
+     * Suite cleanup - Runs once after all tests
+     * Closes every pooled browser, then removes their profiles
+     */
+    @AfterSuite(alwaysRun = true)
+    public void shutdownDriverPool() {
+        SessionCache.clear();
+        DRIVER_POOL.shutdown();
+        DRIVER_FACTORY.close();
+        StandInServer.stopShared();
+        LOG.info("All pooled browsers closed");
     }
 }
@@ -0,0 +1,72 @@
+package com.orangehrm.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ElementCache - Remembers resolved elements of ONE page object
+ *
+ * Real-World Context:
+ *  - Every findElement is an HTTP round trip to the browser
+ *  - Data-driven login runs type into the same two fields again and again
+ *  - A resolved element stays valid until the page re-renders or navigates
+ *
+ * Entries are only valid on the URL they were found on. Navigation, a URL
+ * change or a stale element drops every entry at once.
+ *
+ * Not thread-safe on purpose: page objects are thread-confined.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+class ElementCache {
+
+    private final Map<By, WebElement> elements = new HashMap<>();
+    private boolean enabled;
+    // URL the cached elements were found on, null until the next observation
+    private String url;
+
+    ElementCache(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    WebElement get(By locator) {
+        return enabled ? elements.get(locator) : null;
+    }
+
+    void put(By locator, WebElement element) {
+        if (enabled) {
+            elements.put(locator, element);
+        }
+    }
+
+    /**
+     * Forget every cached element
+     */
+    void invalidate() {
+        elements.clear();
+        url = null;
+    }
+
+    /**
+     * Tell the cache which URL the browser is on
+     * A different URL than the one the entries were found on invalidates them
+     */
+    void onUrlObserved(String current) {
+        if (url == null) {
+            url = current;
+        } else if (!url.equals(current)) {
+            invalidate();
+            url = current;
+        }
+    }
+
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            invalidate();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.orangehrm.base;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ElementState - What one element looked like at snapshot time
+ * Plain values, no live WebElement: reading it costs no round trip
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class ElementState {
+
+    static final ElementState ABSENT = new ElementState(false, false, false, "", Collections.emptyMap());
+
+    private final boolean present;
+    private final boolean visible;
+    private final boolean enabled;
+    private final String text;
+    private final Map<String, String> attributes;
+
+    ElementState(boolean present, boolean visible, boolean enabled, String text, Map<String, String> attributes) {
+        this.present = present;
+        this.visible = visible;
+        this.enabled = enabled;
+        this.text = text;
+        this.attributes = Collections.unmodifiableMap(new HashMap<>(attributes));
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Visible text, like WebElement.getText() (empty when hidden or absent)
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return attribute value, or null if the element doesn't have it
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public String toString() {
+        return present ? "visible=" + visible + ", enabled=" + enabled + ", text='" + text + "'" : "absent";
+    }
+}
@@ -0,0 +1,85 @@
+package com.orangehrm.base;
+
+import org.openqa.selenium.By;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * PageContract - What "this page is ready" means, declared by the page object
+ *
+ * Real-World Context:
+ *  - The "normal" load strategy waits for every image, font and script
+ *  - Yet a Vue page is usable only once its components have rendered,
+ *    which can be before or after the load event
+ *  - So readiness is stated per page, and BasePage checks exactly that
+ *
+ * A page is ready when, in one poll:
+ *  - the document is parsed (readyState is not "loading")
+ *  - the URL contains a match of the URL pattern
+ *  - every anchor element is visible
+ *  - the busy indicator (OrangeHRM loading spinner) is not visible
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class PageContract {
+
+    // Shown by OrangeHRM while a page or widget loads its data
+    public static final By LOADING_SPINNER = By.cssSelector(".oxd-loading-spinner");
+
+    private final String name;
+    private final Pattern urlPattern;
+    private final List<By> anchors;
+    private final By busyIndicator;
+
+    /**
+     * @param name       page name used in logs, metrics and timeout messages
+     * @param urlPattern regex found anywhere in the URL, e.g. "/dashboard/index"
+     * @param anchors    elements that must be visible before the page is used
+     */
+    public PageContract(String name, String urlPattern, By... anchors) {
+        this(name, Pattern.compile(urlPattern), Collections.unmodifiableList(Arrays.asList(anchors)),
+                LOADING_SPINNER);
+    }
+
+    private PageContract(String name, Pattern urlPattern, List<By> anchors, By busyIndicator) {
+        this.name = name;
+        this.urlPattern = urlPattern;
+        this.anchors = anchors;
+        this.busyIndicator = busyIndicator;
+    }
+
+    /**
+     * Same contract for a page with its own busy indicator (null = none)
+     */
+    public PageContract withBusyIndicator(By indicator) {
+        return new PageContract(name, urlPattern, anchors, indicator);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean matchesUrl(String url) {
+        return url != null && urlPattern.matcher(url).find();
+    }
+
+    public Pattern getUrlPattern() {
+        return urlPattern;
+    }
+
+    public List<By> getAnchors() {
+        return anchors;
+    }
+
+    public By getBusyIndicator() {
+        return busyIndicator;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (url ~ " + urlPattern + ", anchors " + anchors + ")";
+    }
+}
@@ -0,0 +1,48 @@
+package com.orangehrm.base;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PageSnapshot - State of several elements, captured in ONE script call
+ *
+ * Real-World Context:
+ *  - Checking 7 dashboard elements one by one = 7+ HTTP commands
+ *  - A snapshot asks the browser once and answers every question locally
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class PageSnapshot {
+
+    private final Map<String, ElementState> elements;
+
+    PageSnapshot(Map<String, ElementState> elements) {
+        this.elements = Collections.unmodifiableMap(new LinkedHashMap<>(elements));
+    }
+
+    /**
+     * @return state of the named element (ABSENT if it wasn't part of the snapshot)
+     */
+    public ElementState get(String name) {
+        return elements.getOrDefault(name, ElementState.ABSENT);
+    }
+
+    public boolean isVisible(String name) {
+        return get(name).isVisible();
+    }
+
+    public boolean allVisible() {
+        return !elements.isEmpty() && elements.values().stream().allMatch(ElementState::isVisible);
+    }
+
+    public Map<String, ElementState> asMap() {
+        return elements;
+    }
+
+    @Override
+    public String toString() {
+        return elements.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.orangehrm.base;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scripts - Browser-side JavaScript shipped under src/main/resources/js
+ * Each script is read from the classpath once and kept in memory
+ *
+ * Shared helpers: a script with a "// requires: locators.js" line gets
+ * that file prepended, so find()/isVisible() live in one place and every
+ * script using them still runs in a single executeScript round trip.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class Scripts {
+
+    private static final String REQUIRES = "// requires: ";
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private Scripts() {
+        // Utility class - no instances
+    }
+
+    /**
+     * @param name file name under /js, e.g. "element-snapshot.js"
+     */
+    public static String load(String name) {
+        return CACHE.computeIfAbsent(name, Scripts::read);
+    }
+
+    /**
+     * The script with its required helpers in front
+     * Helpers are read directly: computeIfAbsent must not recurse into CACHE
+     */
+    private static String read(String name) {
+        String script = resource(name);
+        StringBuilder helpers = new StringBuilder();
+        for (String line : script.split("\n")) {
+            if (line.startsWith(REQUIRES)) {
+                helpers.append(resource(line.substring(REQUIRES.length()).trim())).append('\n');
+            }
+        }
+        return helpers.length() == 0 ? script : helpers + script;
+    }
+
+    private static String resource(String name) {
+        String path = "/js/" + name;
+        try (InputStream in = Scripts.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Script not found on classpath: " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read script " + path, e);
+        }
+    }
+}
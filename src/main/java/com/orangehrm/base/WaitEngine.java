@@ -0,0 +1,179 @@
+package com.orangehrm.base;
+
+import com.orangehrm.config.FrameworkConfig;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * WaitEngine - The ONE place where the framework waits for the browser
+ *
+ * Real-World Context:
+ *  - An implicit wait plus an explicit wait multiply each other
+ *  - isDisplayed() on an element that is correctly absent took 15+ seconds
+ *  - Here every wait is explicit, has a clear meaning and a timeout
+ *
+ * Semantics:
+ *  - presence    : element is in the DOM
+ *  - visibility  : element is in the DOM and displayed
+ *  - clickable   : element is visible and enabled
+ *  - absence     : element is not in the DOM or not displayed
+ *
+ * Polling starts fast and backs off (poll, poll x factor, ... up to a cap),
+ * so quick pages answer quickly and slow pages are not hammered.
+ * Implicit waits MUST stay at zero for these timings to be honest.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class WaitEngine {
+
+    private final WebDriver driver;
+    private final Duration defaultTimeout;
+    private final Duration pollInterval;
+    private final double backoffFactor;
+    private final Duration maxPollInterval;
+
+    public WaitEngine(WebDriver driver) {
+        this(driver,
+                FrameworkConfig.waitTimeout(),
+                FrameworkConfig.waitPollInterval(),
+                FrameworkConfig.waitBackoffFactor(),
+                FrameworkConfig.waitMaxPollInterval());
+    }
+
+    public WaitEngine(WebDriver driver, Duration defaultTimeout, Duration pollInterval,
+                      double backoffFactor, Duration maxPollInterval) {
+        this.driver = driver;
+        this.defaultTimeout = defaultTimeout;
+        this.pollInterval = pollInterval;
+        this.backoffFactor = Math.max(1.0, backoffFactor);
+        this.maxPollInterval = maxPollInterval;
+    }
+
+    // ==================== POSITIVE WAITS ====================
+
+    public WebElement presence(By locator) {
+        return presence(locator, defaultTimeout);
+    }
+
+    public WebElement presence(By locator, Duration timeout) {
+        return until(ExpectedConditions.presenceOfElementLocated(locator), timeout);
+    }
+
+    public WebElement visible(By locator) {
+        return visible(locator, defaultTimeout);
+    }
+
+    public WebElement visible(By locator, Duration timeout) {
+        return until(ExpectedConditions.visibilityOfElementLocated(locator), timeout);
+    }
+
+    public WebElement clickable(By locator) {
+        return clickable(locator, defaultTimeout);
+    }
+
+    public WebElement clickable(By locator, Duration timeout) {
+        return until(ExpectedConditions.elementToBeClickable(locator), timeout);
+    }
+
+    public void urlContains(String fragment) {
+        urlContains(fragment, defaultTimeout);
+    }
+
+    public void urlContains(String fragment, Duration timeout) {
+        until(ExpectedConditions.urlContains(fragment), timeout);
+    }
+
+    /**
+     * Visibility as a yes/no answer
+     * Only a timeout means "no" - any other failure is a real problem
+     */
+    public boolean isVisible(By locator, Duration timeout) {
+        try {
+            visible(locator, timeout);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    // ==================== NEGATIVE CHECKS ====================
+
+    /**
+     * Is the element absent RIGHT NOW
+     * One findElements round trip, no polling: returns in milliseconds
+     *
+     * Real scenario: "error message is not shown" after a valid login
+     */
+    public boolean isAbsentNow(By locator) {
+        try {
+            List<WebElement> elements = driver.findElements(locator);
+            for (WebElement element : elements) {
+                if (element.isDisplayed()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (StaleElementReferenceException e) {
+            // Removed while we looked at it - that is absent
+            return true;
+        }
+    }
+
+    /**
+     * Wait until the element is gone or hidden
+     * Returns as soon as it is, so an already-absent element costs one poll
+     *
+     * @return false if it was still visible when the timeout expired
+     */
+    public boolean waitForAbsence(By locator, Duration timeout) {
+        try {
+            return until(d -> isAbsentNow(locator) ? Boolean.TRUE : null, timeout);
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    // ==================== CORE LOOP ====================
+
+    /**
+     * Poll a condition until it returns a non-null, non-false value
+     */
+    public <T> T until(Function<WebDriver, T> condition, Duration timeout) {
+        return new FluentWait<>(driver, Clock.systemDefaultZone(), new BackoffSleeper())
+                .withTimeout(timeout)
+                .pollingEvery(pollInterval)
+                .ignoring(NoSuchElementException.class, StaleElementReferenceException.class)
+                .until(condition);
+    }
+
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    /**
+     * Sleeps poll, poll x factor, poll x factor^2 ... capped at maxPollInterval
+     * One instance per wait call, so the backoff restarts for every wait
+     */
+    private final class BackoffSleeper implements Sleeper {
+
+        private long nextMillis = pollInterval.toMillis();
+
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            Thread.sleep(nextMillis);
+            nextMillis = Math.min(maxPollInterval.toMillis(), (long) Math.ceil(nextMillis * backoffFactor));
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.orangehrm.config;
+
+import org.openqa.selenium.PageLoadStrategy;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * FrameworkConfig - Central place for run-time settings
+ * Every value can be overridden from the command line with -Dkey=value
+ *
+ * Real-World Context:
+ *  - CI runners and laptops need different settings (pool size, timeouts)
+ *  - Instead of editing constants in BaseTest for every machine
+ *  - We read them ONCE here, with sensible defaults
+ *
+ * Example: mvn test -Ddriver.pool.size=4 -Ddriver.pool.maxReuse=50
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class FrameworkConfig {
+
+    private FrameworkConfig() {
+        // Utility class - no instances
+    }
+
+    // ==================== APPLICATION UNDER TEST ====================
+
+    /**
+     * Public OrangeHRM demo - use with -Dbase.url=demo
+     */
+    public static final String DEMO_URL = "https://opensource-demo.orangehrmlive.com/";
+
+    /**
+     * Application the suite runs against
+     * null means "no real instance configured": use the embedded stand-in
+     */
+    public static String baseUrl() {
+        String url = getString("base.url", "standin");
+        if (url.equalsIgnoreCase("standin")) {
+            return null;
+        }
+        if (url.equalsIgnoreCase("demo")) {
+            return DEMO_URL;
+        }
+        return url.endsWith("/") ? url : url + "/";
+    }
+
+    /**
+     * Port of the embedded stand-in server (0 = any free port)
+     */
+    public static int standInPort() {
+        return getInt("standin.port", 0);
+    }
+
+    /**
+     * Idle time after which a stand-in session expires, as on the real server
+     */
+    public static Duration standInSessionIdle() {
+        return Duration.ofMinutes(getLong("standin.sessionIdleMinutes", 30));
+    }
+
+    // ==================== DRIVER POOL ====================
+
+    /**
+     * Maximum number of warm browser sessions kept by the pool
+     * Defaults to the TestNG thread count: one browser per worker
+     */
+    public static int poolSize() {
+        return getInt("driver.pool.size", Math.max(1, getInt("threadCount", 1)));
+    }
+
+    /**
+     * How many tests a single browser session may serve before it is recycled
+     */
+    public static int poolMaxReuse() {
+        return getInt("driver.pool.maxReuse", 25);
+    }
+
+    /**
+     * When driver.get() returns: "eager" (DOM parsed), "none" (navigation started)
+     * or "normal" (every subresource loaded)
+     * Page objects wait for their PageContract, so eager or none is enough
+     */
+    public static PageLoadStrategy pageLoadStrategy() {
+        String strategy = getString("page.load.strategy", "eager");
+        PageLoadStrategy parsed = PageLoadStrategy.fromString(strategy.toLowerCase(Locale.ROOT));
+        if (parsed == null) {
+            throw new IllegalArgumentException("page.load.strategy must be normal, eager or none: " + strategy);
+        }
+        return parsed;
+    }
+
+    /**
+     * Browsers launched in the background before the pool needs them (0 = off)
+     * Only after the pool first replaces a session - filling it never launches spares
+     */
+    public static int poolLookAhead() {
+        return getInt("driver.prelaunch.depth", 1);
+    }
+
+    // ==================== DRIVER BINARY ====================
+
+    /**
+     * Strict offline mode: the driver binary must come from local config or the index
+     */
+    public static boolean driverOffline() {
+        return getBoolean("driver.offline", false);
+    }
+
+    /**
+     * Machine-wide cache holding downloaded drivers and the version index
+     */
+    public static Path driverCacheDir() {
+        return Paths.get(getString("driver.cache.dir",
+                Paths.get(System.getProperty("user.home"), ".cache", "orangehrm-drivers").toString()));
+    }
+
+    // ==================== SHARDING ====================
+
+    /**
+     * Per-test durations used for sharding and scheduling
+     * Under target/ so local runs leave the working tree clean; CI keeps it in its cache
+     */
+    public static Path timingsFile() {
+        return Paths.get(getString("shard.timings.file", "target/test-timings.properties"));
+    }
+
+    // ==================== NETWORK PROFILE ====================
+
+    /**
+     * Block images, fonts and analytics (see NetworkProfile) in every browser
+     */
+    public static boolean networkBlockingEnabled() {
+        return getBoolean("network.block.enabled", true);
+    }
+
+    /**
+     * How long the application must make no XHR/fetch call to count as idle
+     */
+    public static Duration networkQuietPeriod() {
+        return Duration.ofMillis(getLong("network.idle.quietMillis", 100));
+    }
+
+    // ==================== WAITS ====================
+
+    /**
+     * Default timeout of every explicit wait
+     */
+    public static Duration waitTimeout() {
+        return Duration.ofSeconds(getLong("wait.timeoutSeconds", 15));
+    }
+
+    /**
+     * First poll interval of a wait
+     */
+    public static Duration waitPollInterval() {
+        return Duration.ofMillis(getLong("wait.pollMillis", 50));
+    }
+
+    /**
+     * Each poll interval is the previous one times this factor (1.0 = fixed polling)
+     */
+    public static double waitBackoffFactor() {
+        return getDouble("wait.backoff", 1.5);
+    }
+
+    /**
+     * Upper bound for the poll interval once backoff has grown it
+     */
+    public static Duration waitMaxPollInterval() {
+        return Duration.ofMillis(getLong("wait.maxPollMillis", 500));
+    }
+
+    // ==================== ELEMENT CACHE ====================
+
+    /**
+     * Let page objects reuse resolved elements until they go stale
+     */
+    public static boolean elementCacheEnabled() {
+        return getBoolean("element.cache.enabled", false);
+    }
+
+    // ==================== AUTHENTICATED SESSION REUSE ====================
+
+    /**
+     * Allow opted-in tests to inject a captured login instead of typing it
+     */
+    public static boolean sessionReuseEnabled() {
+        return getBoolean("auth.session.reuse", true);
+    }
+
+    /**
+     * Snapshots older than this are not trusted and trigger a real UI login
+     */
+    public static Duration sessionTtl() {
+        return Duration.ofMinutes(getLong("auth.session.ttlMinutes", 20));
+    }
+
+    // ==================== GENERIC ACCESSORS ====================
+
+    public static String getString(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Property '" + key + "' must be a number but was: " + value, e);
+        }
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Property '" + key + "' must be a number but was: " + value, e);
+        }
+    }
+
+    public static double getDouble(String key, double defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Property '" + key + "' must be a number but was: " + value, e);
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+}
@@ -0,0 +1,58 @@
+package com.orangehrm.data;
+
+/**
+ * Employee - PIM > Add Employee form data
+ *
+ * employeeId and email are unique within a run (TestDataPool).
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class Employee {
+
+    private final String firstName;
+    private final String middleName;
+    private final String lastName;
+    private final String employeeId;
+    private final String email;
+
+    public Employee(String firstName, String middleName, String lastName, String employeeId, String email) {
+        this.firstName = firstName;
+        this.middleName = middleName;
+        this.lastName = lastName;
+        this.employeeId = employeeId;
+        this.email = email;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getMiddleName() {
+        return middleName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    /**
+     * @return "First Last" - how OrangeHRM lists and autocompletes employees
+     */
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return "Employee{" + employeeId + " " + getFullName() + "}";
+    }
+}
@@ -0,0 +1,130 @@
+package com.orangehrm.data;
+
+import com.orangehrm.config.FrameworkConfig;
+import org.testng.ITestContext;
+import org.testng.annotations.DataProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * ExcelDataProviders - TestNG data providers backed by .xlsx test matrices
+ *
+ * Real-World Context:
+ *  - QA keeps credential cases in a spreadsheet, not in Java methods
+ *  - Adding a case means adding a row, no code change, no review of Java
+ *
+ * Each provider returns a lazy iterator over XlsxRows: TestNG pulls one row per
+ * test invocation, so the first row runs while the rest is still parsed.
+ *
+ * Parallel rows - lanes, not @DataProvider(parallel = true):
+ *  - TestNG turns EVERY row of a parallel provider into a task before
+ *    running the first one, so the whole file would be read up front
+ *  - Instead a @Factory creates lanes() instances of the test class; their
+ *    (serial, lazy) providers all pull from ONE shared reader
+ *  - With -Dparallel=methods the lanes run side by side, each taking the
+ *    next unread row - a slow row never holds up the others
+ *
+ * Files are looked up on the file system first, then on the classpath,
+ * so -Ddata.loginMatrix=/data/big-matrix.xlsx swaps in a bigger matrix.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class ExcelDataProviders {
+
+    public static final String LOGIN_MATRIX = "loginMatrix";
+
+    private ExcelDataProviders() {
+        // Utility class - no instances
+    }
+
+    /**
+     * Number of lanes a data-driven test class should create
+     * Defaults to the driver pool size: one browser per lane
+     */
+    public static int lanes() {
+        return Math.max(1, FrameworkConfig.getInt("data.lanes", FrameworkConfig.poolSize()));
+    }
+
+    /**
+     * Columns: case, username, password, expected
+     * expected is "dashboard" or the error message shown on the login page
+     */
+    @DataProvider(name = LOGIN_MATRIX)
+    public static Iterator<Object[]> loginMatrix(ITestContext context) {
+        return shared(context, FrameworkConfig.getString("data.loginMatrix", "data/login-matrix.xlsx"),
+                null, "case", "username", "password", "expected");
+    }
+
+    /**
+     * Stream the given columns of a sheet
+     *
+     * @param location  file path or classpath resource
+     * @param sheetName null for the first sheet
+     */
+    public static Iterator<Object[]> rows(String location, String sheetName, String... columns) {
+        return open(location, sheetName, columns).iterator();
+    }
+
+    /**
+     * One reader per sheet and <test>, shared by every lane asking for it
+     *
+     * Real scenario: 4 lanes of LoginMatrixTests split one matrix between them
+     */
+    public static Iterator<Object[]> shared(ITestContext context, String location, String sheetName,
+                                            String... columns) {
+        String key = "xlsx:" + location + "#" + sheetName + "#" + String.join(",", columns);
+        synchronized (context) {
+            XlsxRows rows = (XlsxRows) context.getAttribute(key);
+            if (rows == null) {
+                rows = open(location, sheetName, columns);
+                context.setAttribute(key, rows);
+            }
+            return rows.iterator();
+        }
+    }
+
+    private static XlsxRows open(String location, String sheetName, String... columns) {
+        return new XlsxRows(resolve(location), sheetName, Arrays.asList(columns),
+                FrameworkConfig.getInt("data.bufferRows", 256),
+                FrameworkConfig.getInt("data.maxSharedStrings", 10_000));
+    }
+
+    /**
+     * POI streams from a file; a resource inside a jar is copied out first
+     */
+    private static Path resolve(String location) {
+        Path path = Paths.get(location);
+        if (Files.isRegularFile(path)) {
+            return path;
+        }
+        URL resource = ExcelDataProviders.class.getClassLoader().getResource(location);
+        if (resource == null) {
+            throw new IllegalArgumentException("Test data not found on disk or classpath: " + location);
+        }
+        try {
+            if (resource.getProtocol().equals("file")) {
+                return Paths.get(resource.toURI());
+            }
+            Path copy = Files.createTempFile("testdata", ".xlsx");
+            copy.toFile().deleteOnExit();
+            try (InputStream in = resource.openStream()) {
+                Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return copy;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read test data " + location, e);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Bad test data location " + resource, e);
+        }
+    }
+}
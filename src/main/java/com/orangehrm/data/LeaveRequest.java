@@ -0,0 +1,60 @@
+package com.orangehrm.data;
+
+import java.time.LocalDate;
+
+/**
+ * LeaveRequest - Leave > Apply / Assign Leave form data
+ *
+ * Dates are working days 1 to 9 weeks after the run's base date (today
+ * unless data.baseDate is set), so the request is never rejected as
+ * "in the past". Replaying an old seed on another day needs its logged
+ * base date too - and a date that is now in the past may be rejected.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class LeaveRequest {
+
+    private final String employeeName;
+    private final String leaveType;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final String comment;
+
+    public LeaveRequest(String employeeName, String leaveType, LocalDate fromDate, LocalDate toDate,
+                        String comment) {
+        this.employeeName = employeeName;
+        this.leaveType = leaveType;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.comment = comment;
+    }
+
+    public String getEmployeeName() {
+        return employeeName;
+    }
+
+    /**
+     * @return Leave Type dropdown value, e.g. "CAN - Personal"
+     */
+    public String getLeaveType() {
+        return leaveType;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    @Override
+    public String toString() {
+        return "LeaveRequest{" + employeeName + " " + leaveType + " " + fromDate + ".." + toDate + "}";
+    }
+}
@@ -0,0 +1,154 @@
+package com.orangehrm.data;
+
+import com.github.javafaker.Faker;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * RecordPool - Records of one type, generated ahead on a background thread
+ *
+ * Real-World Context:
+ *  - Faker resolves every value through YAML lookups and regexes:
+ *    milliseconds per record, spent on the test thread
+ *  - A Faker instance is not thread-safe, so parallel tests can't share one
+ *  - Here ONE generator thread owns the Faker and keeps up to capacity
+ *    records ready; tests just take the next one
+ *
+ * Guarantees:
+ *  - Unique: a record whose key was already generated is thrown away, and
+ *    every record is handed out once, so no two tests get the same key
+ *  - Reproducible: the generator has its own seeded Random, so the n-th
+ *    record of a pool is the same in every run with the same seed
+ *
+ * take() never blocks the generator (LinkedBlockingQueue: separate locks
+ * for put and take) and only waits if tests consume faster than it fills.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class RecordPool<T> {
+
+    private static final Logger LOG = LogManager.getLogger(RecordPool.class);
+
+    // Give up if this many generated records in a row were duplicates
+    private static final int MAX_DUPLICATES_IN_A_ROW = 1_000;
+
+    /**
+     * Builds one record from the generator thread's Faker
+     */
+    @FunctionalInterface
+    public interface Generator<T> {
+        T generate(Faker faker);
+    }
+
+    private final String name;
+    private final BlockingQueue<T> queue;
+    private final LongAdder served = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private volatile RuntimeException failure;
+
+    /**
+     * Start generating in the background
+     *
+     * @param uniqueKey the value that must not repeat (employee id, username ...)
+     */
+    public RecordPool(String name, long seed, Locale locale, int capacity,
+                      Generator<T> generator, Function<T, String> uniqueKey) {
+        this.name = name;
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, capacity));
+
+        Thread thread = new Thread(() -> generate(seed, locale, generator, uniqueKey), "testdata-" + name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // ==================== HANDING OUT ====================
+
+    /**
+     * Next unused record
+     *
+     * Real scenario: PIM test needs a new employee to add
+     */
+    public T take() {
+        T record = queue.poll();
+        if (record == null) {
+            waits.increment();
+            record = awaitRecord();
+        }
+        served.increment();
+        return record;
+    }
+
+    /**
+     * @return records handed out so far
+     */
+    public long getServed() {
+        return served.sum();
+    }
+
+    /**
+     * @return times a test had to wait for the generator - should stay near 0
+     */
+    public long getWaits() {
+        return waits.sum();
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + getServed() + " served, " + getWaits() + " waited, " + queue.size() + " ready";
+    }
+
+    private T awaitRecord() {
+        try {
+            while (true) {
+                T record = queue.poll(1, TimeUnit.SECONDS);
+                if (record != null) {
+                    return record;
+                }
+                if (failure != null) {
+                    throw new IllegalStateException("Test data generator '" + name + "' stopped", failure);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for test data '" + name + "'", e);
+        }
+    }
+
+    // ==================== GENERATING ====================
+
+    private void generate(long seed, Locale locale, Generator<T> generator, Function<T, String> uniqueKey) {
+        try {
+            // Confined to this thread, like the Random behind it
+            Faker faker = new Faker(locale, new Random(seed));
+            Set<String> keys = new HashSet<>();
+            int duplicates = 0;
+            while (true) {
+                T record = generator.generate(faker);
+                if (!keys.add(uniqueKey.apply(record))) {
+                    if (++duplicates >= MAX_DUPLICATES_IN_A_ROW) {
+                        throw new IllegalStateException("No new unique " + name + " after "
+                                + duplicates + " attempts (" + keys.size() + " generated)");
+                    }
+                    continue;
+                }
+                duplicates = 0;
+                queue.put(record);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOG.error("Test data generator '{}' failed: {}", name, e.getMessage());
+            failure = e;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.orangehrm.data;
+
+/**
+ * SystemUser - Admin > User Management > Add User form data
+ *
+ * username is unique within a run (TestDataPool). The password meets the
+ * default OrangeHRM policy: 8+ characters, upper and lower case, digit,
+ * special character.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class SystemUser {
+
+    /**
+     * User Role dropdown values
+     */
+    public enum Role {
+        ADMIN("Admin"), ESS("ESS");
+
+        private final String label;
+
+        Role(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final String username;
+    private final String password;
+    private final Role role;
+    private final boolean enabled;
+    private final String employeeName;
+
+    public SystemUser(String username, String password, Role role, boolean enabled, String employeeName) {
+        this.username = username;
+        this.password = password;
+        this.role = role;
+        this.enabled = enabled;
+        this.employeeName = employeeName;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return Status dropdown value: "Enabled" or "Disabled"
+     */
+    public String getStatus() {
+        return enabled ? "Enabled" : "Disabled";
+    }
+
+    /**
+     * @return the employee this account belongs to ("First Last")
+     */
+    public String getEmployeeName() {
+        return employeeName;
+    }
+
+    @Override
+    public String toString() {
+        // Never the password: these end up in logs and reports
+        return "SystemUser{" + username + " " + role.getLabel() + " " + getStatus() + "}";
+    }
+}
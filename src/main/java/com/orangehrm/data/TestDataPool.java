@@ -0,0 +1,171 @@
+package com.orangehrm.data;
+
+import com.orangehrm.config.FrameworkConfig;
+import com.github.javafaker.Faker;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * TestDataPool - Ready-made synthetic records for PIM, Admin and Leave tests
+ *
+ * Usage:
+ *   Employee employee = TestDataPool.employees().take();
+ *   SystemUser user = TestDataPool.systemUsers().take();
+ *
+ * Each record type has its own RecordPool, started the first time it is
+ * used. Safe to call from any number of parallel tests.
+ *
+ * Reproducing a run:
+ *  - The seed (data.seed, random by default) and the base date of leave
+ *    requests (data.baseDate, today by default) are logged when the first
+ *    pool starts: "Test data seed: 123, base date 2026-03-02
+ *    (rerun with -Ddata.seed=123 -Ddata.baseDate=2026-03-02)"
+ *  - Same seed and base date = same sequence of records per type. A serial run gives
+ *    every test the same records again; a parallel run hands out the same
+ *    records, but which test gets which depends on timing.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class TestDataPool {
+
+    private static final Logger LOG = LogManager.getLogger(TestDataPool.class);
+
+    // Before SEED: seed() logs both
+    private static final LocalDate BASE_DATE = baseDate();
+    private static final long SEED = seed();
+    private static final Locale LOCALE = Locale.forLanguageTag(FrameworkConfig.getString("data.locale", "en"));
+    private static final int CAPACITY = FrameworkConfig.getInt("data.pool.size", 64);
+
+    // Leave types of a default OrangeHRM installation
+    private static final String[] LEAVE_TYPES = {
+            "CAN - Personal", "CAN - Vacation", "CAN - Bereavement", "CAN - FMLA"
+    };
+    private static final String SPECIAL_CHARACTERS = "!@#$%&*?";
+
+    private TestDataPool() {
+        // Utility class - no instances
+    }
+
+    // ==================== POOLS ====================
+
+    public static RecordPool<Employee> employees() {
+        return Employees.POOL;
+    }
+
+    public static RecordPool<SystemUser> systemUsers() {
+        return SystemUsers.POOL;
+    }
+
+    public static RecordPool<LeaveRequest> leaveRequests() {
+        return LeaveRequests.POOL;
+    }
+
+    /**
+     * @return seed of this run's records
+     */
+    public static long getSeed() {
+        return SEED;
+    }
+
+    // Holder classes: a pool (and its thread) only starts when first used
+
+    private static final class Employees {
+        private static final RecordPool<Employee> POOL = new RecordPool<>("employees",
+                poolSeed("employees"), LOCALE, CAPACITY, TestDataPool::employee, Employee::getEmployeeId);
+    }
+
+    private static final class SystemUsers {
+        private static final RecordPool<SystemUser> POOL = new RecordPool<>("systemUsers",
+                poolSeed("systemUsers"), LOCALE, CAPACITY, TestDataPool::systemUser, SystemUser::getUsername);
+    }
+
+    private static final class LeaveRequests {
+        private static final RecordPool<LeaveRequest> POOL = new RecordPool<>("leaveRequests",
+                poolSeed("leaveRequests"), LOCALE, CAPACITY, TestDataPool::leaveRequest,
+                // Not unique by nature - the pool just never hands one out twice
+                request -> request.getEmployeeName() + "|" + request.getFromDate() + "|" + request.getComment());
+    }
+
+    // ==================== GENERATORS ====================
+
+    // Package-private: TestDataPoolTests runs them in pools of its own
+
+    static Employee employee(Faker faker) {
+        String firstName = faker.name().firstName();
+        String lastName = faker.name().lastName();
+        // OrangeHRM employee ids are at most 10 characters
+        String employeeId = faker.number().digits(7);
+        String email = slug(firstName) + "." + slug(lastName) + "." + employeeId + "@example.com";
+        return new Employee(firstName, faker.name().firstName(), lastName, employeeId, email);
+    }
+
+    static SystemUser systemUser(Faker faker) {
+        String firstName = faker.name().firstName();
+        String lastName = faker.name().lastName();
+        String username = slug(firstName) + "." + slug(lastName) + faker.number().digits(3);
+        String word = slug(faker.lorem().word());
+        String password = Character.toUpperCase(word.charAt(0)) + word.substring(1)
+                + faker.number().digits(4)
+                + SPECIAL_CHARACTERS.charAt(faker.random().nextInt(SPECIAL_CHARACTERS.length()))
+                + faker.letterify("???");
+        SystemUser.Role role = faker.random().nextInt(5) == 0 ? SystemUser.Role.ADMIN : SystemUser.Role.ESS;
+        boolean enabled = faker.random().nextInt(10) != 0;
+        return new SystemUser(username, password, role, enabled, firstName + " " + lastName);
+    }
+
+    static LeaveRequest leaveRequest(Faker faker) {
+        LocalDate from = workingDay(BASE_DATE.plusDays(7 + faker.random().nextInt(60)));
+        LocalDate to = from;
+        for (int days = faker.random().nextInt(5); days > 0; days--) {
+            to = workingDay(to.plusDays(1));
+        }
+        return new LeaveRequest(faker.name().firstName() + " " + faker.name().lastName(),
+                LEAVE_TYPES[faker.random().nextInt(LEAVE_TYPES.length)], from, to, faker.lorem().sentence());
+    }
+
+    // ==================== HELPERS ====================
+
+    private static long seed() {
+        long seed = FrameworkConfig.getLong("data.seed", System.nanoTime());
+        LOG.info("Test data seed: {}, base date {} (rerun with -Ddata.seed={} -Ddata.baseDate={})",
+                seed, BASE_DATE, seed, BASE_DATE);
+        return seed;
+    }
+
+    /**
+     * Leave dates are offsets from this day, read once per run - a run that
+     * passes midnight or is repeated tomorrow with the same seed gets the same dates
+     */
+    private static LocalDate baseDate() {
+        String date = FrameworkConfig.getString("data.baseDate", "");
+        try {
+            return date.isEmpty() ? LocalDate.now() : LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("data.baseDate must be yyyy-MM-dd, got '" + date + "'", e);
+        }
+    }
+
+    private static long poolSeed(String pool) {
+        return SEED * 31 + pool.hashCode();
+    }
+
+    private static LocalDate workingDay(LocalDate date) {
+        while (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            date = date.plusDays(1);
+        }
+        return date;
+    }
+
+    /**
+     * "O'Connor-Smith" -> "oconnorsmith" (usernames and e-mail addresses)
+     */
+    private static String slug(String text) {
+        String slug = text.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+        return slug.isEmpty() ? "x" : slug;
+    }
+}
@@ -0,0 +1,341 @@
+package com.orangehrm.data;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * XlsxRows - Rows of one .xlsx sheet, read while the tests already run
+ *
+ * Real-World Context:
+ *  - XSSFWorkbook loads the whole file: a 100k row credential matrix
+ *    needs hundreds of MB of heap and seconds before the first test
+ *  - Here a background thread parses the sheet XML with SAX (POI's event
+ *    model) and hands rows over through a small bounded queue
+ *  - The first test starts after the first row; memory stays at
+ *    bufferRows rows no matter how big the file is
+ *
+ * Sheet layout: first row holds the column names, every other row is one
+ * test case. Empty cells become "". Columns are returned in the order
+ * asked for, not the order in the sheet.
+ *
+ * Large matrices must store their text as INLINE strings (what POI's
+ * SXSSFWorkbook writes by default). Excel itself puts every distinct text
+ * in one shared-strings table, which POI can only read into heap as a
+ * whole - in a credential matrix almost every cell is distinct, so memory
+ * would grow with the file. Workbooks with more than maxSharedStrings
+ * shared strings are rejected up front instead.
+ *
+ * Several threads may pull rows at once, each through its own iterator().
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class XlsxRows implements Iterable<Object[]> {
+
+    private static final Logger LOG = LogManager.getLogger(XlsxRows.class);
+
+    // Marks the end of the sheet in the queue
+    private static final Object[] END = new Object[0];
+
+    private final Path file;
+    private final String sheetName;
+    private final List<String> columns;
+    private final int maxSharedStrings;
+    private final BlockingQueue<Object[]> queue;
+    private volatile RuntimeException failure;
+    private boolean finished;
+
+    /**
+     * Start reading in the background
+     *
+     * @param sheetName  sheet to read, or null for the first one
+     * @param columns    header names of the columns to return, in this order
+     * @param bufferRows rows parsed ahead of the tests
+     * @param maxSharedStrings largest shared-strings table accepted (it is held in memory)
+     */
+    public XlsxRows(Path file, String sheetName, List<String> columns, int bufferRows, int maxSharedStrings) {
+        this.file = file;
+        this.sheetName = sheetName;
+        this.columns = new ArrayList<>(columns);
+        this.maxSharedStrings = maxSharedStrings;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, bufferRows));
+
+        Thread reader = new Thread(this::read, "xlsx-" + file.getFileName());
+        // Never keeps the JVM alive if the tests stop pulling rows
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    // ==================== ITERATION ====================
+
+    /**
+     * A consumer of this reader's rows
+     *
+     * Each call returns a new iterator; several iterators share the rows
+     * (every row goes to exactly one of them). hasNext() claims the row it
+     * reports, so no other iterator can take it in between.
+     */
+    @Override
+    public Iterator<Object[]> iterator() {
+        return new Iterator<Object[]>() {
+            private Object[] claimed;
+
+            @Override
+            public boolean hasNext() {
+                if (claimed == null) {
+                    claimed = take();
+                }
+                return claimed != null;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more rows in " + file);
+                }
+                Object[] row = claimed;
+                claimed = null;
+                return row;
+            }
+        };
+    }
+
+    /**
+     * Next row, waiting for the parser if needed
+     *
+     * @return null at the end of the sheet
+     */
+    private Object[] take() {
+        synchronized (queue) {
+            if (finished) {
+                return null;
+            }
+            Object[] row;
+            try {
+                row = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while reading " + file, e);
+            }
+            if (row == END) {
+                finished = true;
+                if (failure != null) {
+                    throw failure;
+                }
+                return null;
+            }
+            return row;
+        }
+    }
+
+    // ==================== PARSING ====================
+
+    private void read() {
+        long start = System.nanoTime();
+        RowHandler handler = new RowHandler();
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            checkSharedStrings(pkg);
+            XSSFReader reader = new XSSFReader(pkg);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            boolean found = false;
+            while (sheets.hasNext() && !found) {
+                try (InputStream sheet = sheets.next()) {
+                    if (sheetName == null || sheetName.equals(sheets.getSheetName())) {
+                        found = true;
+                        XMLReader parser = XMLHelper.newXMLReader();
+                        parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(),
+                                new ReadOnlySharedStringsTable(pkg), handler, false));
+                        parser.parse(new InputSource(sheet));
+                    }
+                }
+            }
+            if (!found) {
+                throw new IllegalArgumentException("Sheet '" + sheetName + "' not found in " + file);
+            }
+            LOG.info("Read {} rows from {} in {} ms", handler.rows, file,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (InterruptedRead e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            failure = e;
+        } catch (Exception e) {
+            failure = new IllegalStateException("Could not read test data from " + file, e);
+        } catch (Error e) {
+            // Tests must fail, not run zero rows and pass
+            failure = new IllegalStateException("Could not read test data from " + file, e);
+            throw e;
+        } finally {
+            if (!Thread.currentThread().isInterrupted()) {
+                put(END);
+            }
+        }
+    }
+
+    /**
+     * Fail before loading a shared-strings table too big for the memory promise
+     * Reads only the table's header (or counts its entries) - never its text
+     */
+    private void checkSharedStrings(OPCPackage pkg)
+            throws IOException, SAXException, ParserConfigurationException {
+        SharedStringsCounter counter = new SharedStringsCounter(maxSharedStrings);
+        for (PackagePart part : pkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType())) {
+            try (InputStream in = part.getInputStream()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(counter);
+                parser.parse(new InputSource(in));
+            } catch (SharedStringsCounter.Done done) {
+                // Decided without reading the rest of the table
+            }
+        }
+        if (counter.count > maxSharedStrings) {
+            throw new IllegalArgumentException(file + " has " + counter.count + " shared strings, more than "
+                    + maxSharedStrings + " (data.maxSharedStrings). POI holds that table in memory: save large"
+                    + " matrices with inline strings (SXSSFWorkbook does by default) or raise the limit.");
+        }
+    }
+
+    private void put(Object[] row) {
+        try {
+            queue.put(row);
+        } catch (InterruptedException e) {
+            throw new InterruptedRead();
+        }
+    }
+
+    /**
+     * Collects the cells of one row, hands it to the queue at the end of the row
+     */
+    private final class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private int[] columnIndexes;
+        private final List<String> header = new ArrayList<>();
+        private String[] cells;
+        private long rows;
+
+        @Override
+        public void startRow(int rowNum) {
+            if (columnIndexes != null) {
+                cells = new String[columns.size()];
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = new CellReference(cellReference).getCol();
+            if (columnIndexes == null) {
+                while (header.size() <= column) {
+                    header.add("");
+                }
+                header.set(column, formattedValue.trim());
+                return;
+            }
+            for (int i = 0; i < columnIndexes.length; i++) {
+                if (columnIndexes[i] == column) {
+                    cells[i] = formattedValue;
+                }
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (columnIndexes == null) {
+                columnIndexes = new int[columns.size()];
+                for (int i = 0; i < columnIndexes.length; i++) {
+                    columnIndexes[i] = header.indexOf(columns.get(i));
+                    if (columnIndexes[i] < 0) {
+                        throw new IllegalArgumentException("Column '" + columns.get(i) + "' not in the header "
+                                + header + " of " + file);
+                    }
+                }
+                return;
+            }
+            if (Arrays.stream(cells).allMatch(cell -> cell == null || cell.isEmpty())) {
+                // Blank spacer row
+                return;
+            }
+            for (int i = 0; i < cells.length; i++) {
+                if (cells[i] == null) {
+                    cells[i] = "";
+                }
+            }
+            rows++;
+            put(cells);
+        }
+    }
+
+    /**
+     * Counts shared strings: the uniqueCount header when present, else the <si> entries
+     */
+    private static final class SharedStringsCounter extends DefaultHandler {
+
+        private final int limit;
+        private long count;
+
+        private SharedStringsCounter(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes)
+                throws SAXException {
+            String name = localName.isEmpty() ? qName : localName;
+            if ("sst".equals(name)) {
+                String uniqueCount = attributes.getValue("uniqueCount");
+                if (uniqueCount != null) {
+                    count += Long.parseLong(uniqueCount.trim());
+                    throw new Done();
+                }
+            } else if ("si".equals(name) && ++count > limit) {
+                throw new Done();
+            }
+        }
+
+        /**
+         * Stops the parser once the answer is known
+         */
+        private static final class Done extends SAXException {
+            private static final long serialVersionUID = 1L;
+
+            private Done() {
+                super("done");
+            }
+        }
+    }
+
+    /**
+     * Unwinds the SAX parser when the reader thread is interrupted
+     */
+    private static final class InterruptedRead extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private InterruptedRead() {
+            super(null, null, false, false);
+        }
+    }
+}
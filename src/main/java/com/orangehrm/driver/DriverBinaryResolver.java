@@ -0,0 +1,250 @@
+package com.orangehrm.driver;
+
+import com.orangehrm.config.FrameworkConfig;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DriverBinaryResolver - Finds the chromedriver binary ONCE per JVM
+ *
+ * Real-World Context:
+ *  - WebDriverManager.setup() re-detects versions and checks caches/network
+ *  - Doing that before every test is slow, and impossible on air-gapped runners
+ *  - We resolve once, remember the answer in memory and in an on-disk index
+ *
+ * Resolution order:
+ *  1. -Dwebdriver.chrome.driver points to an existing binary -> use it
+ *  2. On-disk index has an entry for the installed Chrome version -> use it
+ *  3. Offline mode (-Ddriver.offline=true) -> fail, never touch the network
+ *  4. Otherwise download through WebDriverManager and record it in the index
+ *
+ * If the Chrome version can't be detected the index is skipped entirely:
+ * an entry under an unknown version would keep serving the same driver
+ * after a Chrome upgrade. Online it resolves fresh every run; offline it
+ * fails and asks for -Ddriver.browser.version.
+ *
+ * Step 4 runs under an exclusive file lock, so many forked JVMs starting
+ * together download the driver once and never see a half-written index.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class DriverBinaryResolver {
+
+    private static final Logger LOG = LogManager.getLogger(DriverBinaryResolver.class);
+
+    private static final String DRIVER_PROPERTY = "webdriver.chrome.driver";
+    private static final String INDEX_FILE = "driver-index.properties";
+    private static final String LOCK_FILE = ".resolve.lock";
+    private static final Pattern VERSION = Pattern.compile("(\\d+)\\.\\d+\\.\\d+\\.\\d+");
+
+    private static volatile Path resolvedDriver;
+
+    private DriverBinaryResolver() {
+        // Utility class - no instances
+    }
+
+    /**
+     * Make sure webdriver.chrome.driver is set, resolving it on first call
+     * Every later call is a single volatile read
+     *
+     * @return path of the chromedriver binary
+     */
+    public static Path resolveChromeDriver() {
+        Path driver = resolvedDriver;
+        if (driver == null) {
+            synchronized (DriverBinaryResolver.class) {
+                driver = resolvedDriver;
+                if (driver == null) {
+                    driver = resolve();
+                    System.setProperty(DRIVER_PROPERTY, driver.toString());
+                    resolvedDriver = driver;
+                    LOG.info("Using chromedriver: {}", driver);
+                }
+            }
+        }
+        return driver;
+    }
+
+    // ==================== RESOLUTION STEPS ====================
+
+    private static Path resolve() {
+        String configured = System.getProperty(DRIVER_PROPERTY);
+        if (configured != null && isUsable(Paths.get(configured))) {
+            return Paths.get(configured);
+        }
+
+        Path cacheDir = FrameworkConfig.driverCacheDir();
+        Optional<String> major = detectChromeMajorVersion();
+        if (!major.isPresent()) {
+            if (FrameworkConfig.driverOffline()) {
+                throw new IllegalStateException("Offline mode: could not detect the installed Chrome version."
+                        + " Pass -Ddriver.browser.version=<major> (or -D" + DRIVER_PROPERTY + "=<path>).");
+            }
+            LOG.warn("Chrome version not detected, resolving chromedriver without the index"
+                    + " (set -Ddriver.browser.version to use it)");
+            return downloadUnderLock(cacheDir, null);
+        }
+        String versionKey = "chrome." + major.get();
+
+        Optional<Path> indexed = lookup(cacheDir, versionKey);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+
+        if (FrameworkConfig.driverOffline()) {
+            throw new IllegalStateException("Offline mode: no chromedriver indexed for '" + versionKey + "' in "
+                    + cacheDir.resolve(INDEX_FILE) + ". Run once online on this machine, or pass -D"
+                    + DRIVER_PROPERTY + "=<path>.");
+        }
+        return downloadUnderLock(cacheDir, versionKey);
+    }
+
+    /**
+     * Download through WebDriverManager while holding the machine-wide lock
+     * The index is checked again after the lock is granted: another JVM
+     * may have finished the same download while we were waiting
+     *
+     * @param versionKey index entry to check and record, null = neither
+     */
+    private static Path downloadUnderLock(Path cacheDir, String versionKey) {
+        try {
+            Files.createDirectories(cacheDir);
+            try (FileChannel channel = FileChannel.open(cacheDir.resolve(LOCK_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    return download(cacheDir, versionKey);
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not lock driver cache " + cacheDir, e);
+        }
+    }
+
+    /**
+     * Index lookup, then WebDriverManager download - caller holds the lock
+     */
+    private static Path download(Path cacheDir, String versionKey) throws IOException {
+        if (versionKey != null) {
+            Optional<Path> indexed = lookup(cacheDir, versionKey);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        }
+
+        WebDriverManager manager = WebDriverManager.chromedriver()
+                .cachePath(cacheDir.resolve("wdm").toString())
+                .avoidExport();
+        manager.setup();
+        Path driver = Paths.get(manager.getDownloadedDriverPath()).toAbsolutePath();
+
+        if (versionKey != null) {
+            record(cacheDir, versionKey, driver);
+        }
+        return driver;
+    }
+
+    // ==================== ON-DISK INDEX ====================
+
+    private static Optional<Path> lookup(Path cacheDir, String versionKey) {
+        Properties index = readIndex(cacheDir);
+        String path = index.getProperty(versionKey);
+        if (path != null && isUsable(Paths.get(path))) {
+            return Optional.of(Paths.get(path));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Add one entry to the index
+     * Written to a temp file and atomically moved, so readers without the
+     * lock see either the old or the new index, never a partial one
+     */
+    private static void record(Path cacheDir, String versionKey, Path driver) throws IOException {
+        Properties index = readIndex(cacheDir);
+        index.setProperty(versionKey, driver.toString());
+
+        Path temp = Files.createTempFile(cacheDir, INDEX_FILE, ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            index.store(out, "chromedriver binaries by installed Chrome major version");
+        }
+        Files.move(temp, cacheDir.resolve(INDEX_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Properties readIndex(Path cacheDir) {
+        Properties index = new Properties();
+        Path file = cacheDir.resolve(INDEX_FILE);
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                index.load(in);
+            } catch (IOException e) {
+                LOG.warn("Ignoring unreadable driver index: {}", e.getMessage());
+            }
+        }
+        return index;
+    }
+
+    // ==================== BROWSER VERSION ====================
+
+    /**
+     * Major version of the installed Chrome, detected locally
+     * -Ddriver.browser.version wins when the browser cannot be asked
+     *
+     * @return empty if neither configured nor readable from the browser
+     */
+    private static Optional<String> detectChromeMajorVersion() {
+        String configured = FrameworkConfig.getString("driver.browser.version", null);
+        if (configured != null && !configured.isBlank()) {
+            return Optional.of(configured.trim().split("\\.")[0]);
+        }
+        Optional<Path> browser = WebDriverManager.chromedriver().getBrowserPath();
+        if (browser.isPresent()) {
+            try {
+                Process process = new ProcessBuilder(browser.get().toString(), "--version")
+                        .redirectErrorStream(true)
+                        .start();
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                    String line = reader.readLine();
+                    process.waitFor(10, TimeUnit.SECONDS);
+                    Matcher matcher = VERSION.matcher(line == null ? "" : line);
+                    if (matcher.find()) {
+                        return Optional.of(matcher.group(1));
+                    }
+                }
+            } catch (IOException e) {
+                // Not readable - reported as undetected
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isUsable(Path path) {
+        return Files.isRegularFile(path) && Files.isExecutable(path);
+    }
+}
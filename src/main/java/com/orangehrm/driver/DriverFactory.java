@@ -0,0 +1,235 @@
+package com.orangehrm.driver;
+
+import com.orangehrm.base.WaitEngine;
+import com.orangehrm.config.FrameworkConfig;
+import com.orangehrm.metrics.ActionMetrics;
+import com.orangehrm.network.ActivityTracker;
+import com.orangehrm.network.NetworkInterceptor;
+import com.orangehrm.network.NetworkProfile;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * DriverFactory - Builds new browser sessions
+ * Knows HOW to launch Chrome, nothing about WHEN (that is DriverPool's job)
+ *
+ * Profile template (optional, -Ddriver.profile.template=true): the first
+ * launch warms one profile from the base URL, every later browser starts
+ * from a clone of it on tmpfs (ProfileTemplate), deleted when it quits.
+ * The template is warmed without resource blocking, so images and fonts
+ * are cached for @FullPageLoad sessions too.
+ *
+ * Timings (ActionMetrics, suite scope): browser.coldStart (ChromeDriver up)
+ * and browser.firstNavigation (first page of the session), each split into
+ * "empty profile" and "template profile". With the template on, the build
+ * itself is the empty-profile sample, so one run shows both.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class DriverFactory {
+
+    private static final Logger LOG = LogManager.getLogger(DriverFactory.class);
+
+    private static final String EMPTY_PROFILE = "empty profile";
+    private static final String TEMPLATE_PROFILE = "template profile";
+
+    private final Duration implicitWait;
+    private final Duration pageLoadTimeout;
+    private final NetworkProfile networkProfile =
+            FrameworkConfig.networkBlockingEnabled() ? NetworkProfile.fromConfig() : null;
+    private final ProfileTemplate profileTemplate = ProfileTemplate.fromConfig();
+    // Browser -> the profile clone it runs on, deleted after quit()
+    private final Map<WebDriver, Path> clones = new ConcurrentHashMap<>();
+    private volatile boolean templateFailed;
+
+    public DriverFactory(Duration implicitWait, Duration pageLoadTimeout) {
+        this.implicitWait = implicitWait;
+        this.pageLoadTimeout = pageLoadTimeout;
+    }
+
+    /**
+     * Launch a new ChromeDriver with the framework's standard options
+     *
+     * Real scenario: Pool is empty or a session crashed and must be replaced
+     */
+    public WebDriver createDriver() {
+        return launch(null, false, true);
+    }
+
+    /**
+     * Launch a new ChromeDriver and open its first page
+     *
+     * Real scenario: DriverPool needs a session already on the application
+     */
+    public WebDriver createDriver(String startUrl) {
+        Path profile = null;
+        if (profileTemplate != null && buildTemplate(startUrl)) {
+            profile = profileTemplate.newClone();
+        }
+        WebDriver driver = launch(profile, true, true);
+        try {
+            long start = System.nanoTime();
+            driver.get(startUrl);
+            record("browser.firstNavigation", profile != null, System.nanoTime() - start);
+            return driver;
+        } catch (RuntimeException e) {
+            quit(driver);
+            throw e;
+        }
+    }
+
+    /**
+     * Quit a browser and release everything attached to it
+     *
+     * Real scenario: Pool recycles a session or the suite ends
+     */
+    public void quit(WebDriver driver) {
+        NetworkInterceptor.detach(driver);
+        try {
+            driver.quit();
+        } finally {
+            Path clone = clones.remove(driver);
+            if (clone != null) {
+                profileTemplate.delete(clone);
+            }
+        }
+    }
+
+    /**
+     * Remove the profile template and any clone left behind
+     * Called once at the end of the suite, after every browser quit
+     */
+    public void close() {
+        if (profileTemplate != null) {
+            profileTemplate.close();
+        }
+    }
+
+    // ==================== LAUNCH ====================
+
+    /**
+     * @param profile user data directory, or null for chromedriver's empty temporary one
+     * @param tracked count as a session launch in the timings (false for the template build)
+     * @param blocking attach the network profile (false for the template build: it caches everything)
+     */
+    private WebDriver launch(Path profile, boolean tracked, boolean blocking) {
+        // Resolved once per JVM, then just a field read
+        DriverBinaryResolver.resolveChromeDriver();
+
+        // Chrome options for stable execution
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--start-maximized");
+        options.addArguments("--disabled-notification");
+        options.addArguments("disable-popup-blocking");
+
+        // driver.get() returns early; page objects wait for their PageContract
+        options.setPageLoadStrategy(FrameworkConfig.pageLoadStrategy());
+
+        // Keep the browser console, read by FailureCapture when a test fails
+        LoggingPreferences logging = new LoggingPreferences();
+        logging.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability("goog:loggingPrefs", logging);
+
+        if (profile != null) {
+            options.addArguments("--user-data-dir=" + profile.toAbsolutePath());
+        }
+
+        long start = System.nanoTime();
+        WebDriver driver;
+        try {
+            driver = new ChromeDriver(options);
+        } catch (RuntimeException e) {
+            if (profile != null) {
+                profileTemplate.delete(profile);
+            }
+            throw e;
+        }
+        if (tracked) {
+            record("browser.coldStart", profile != null && profileTemplate.isBuilt(), System.nanoTime() - start);
+        }
+        if (profile != null && profileTemplate.isBuilt()) {
+            clones.put(driver, profile);
+        }
+
+        // Configure timeouts
+        driver.manage().timeouts().implicitlyWait(implicitWait);
+        driver.manage().timeouts().pageLoadTimeout(pageLoadTimeout);
+
+        // Count the application's XHR/fetch calls on every page, from its first script
+        ActivityTracker.install(driver);
+
+        // Skip images, fonts and analytics before the first navigation
+        if (blocking && networkProfile != null) {
+            NetworkInterceptor.attach(driver, networkProfile);
+        }
+        return driver;
+    }
+
+    // ==================== PROFILE TEMPLATE ====================
+
+    /**
+     * Warm the template once: two visits, so V8 also writes its code cache,
+     * then quit so Chrome flushes both caches to disk
+     * Synchronized: parallel first launches wait for the one build
+     *
+     * @return false if the build failed - browsers then start with empty profiles
+     */
+    private synchronized boolean buildTemplate(String startUrl) {
+        if (profileTemplate.isBuilt() || templateFailed) {
+            return !templateFailed;
+        }
+        try {
+            warmTemplate(startUrl);
+            return true;
+        } catch (RuntimeException e) {
+            templateFailed = true;
+            LOG.warn("Browser profile template not built, using empty profiles: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void warmTemplate(String startUrl) {
+        long buildStart = System.nanoTime();
+        long start = System.nanoTime();
+        WebDriver driver = launch(profileTemplate.prepareTemplate(), false, false);
+        record("browser.coldStart", false, System.nanoTime() - start);
+        try {
+            start = System.nanoTime();
+            driver.get(startUrl);
+            record("browser.firstNavigation", false, System.nanoTime() - start);
+            waitForLoad(driver);
+            driver.navigate().refresh();
+            waitForLoad(driver);
+        } finally {
+            driver.quit();
+        }
+        profileTemplate.markBuilt();
+        LOG.info("Browser profile template built in {} ms", (System.nanoTime() - buildStart) / 1_000_000);
+    }
+
+    /**
+     * Every subresource in the cache - the eager load strategy does not wait for it
+     */
+    private void waitForLoad(WebDriver driver) {
+        new WaitEngine(driver, pageLoadTimeout, FrameworkConfig.waitPollInterval(),
+                FrameworkConfig.waitBackoffFactor(), FrameworkConfig.waitMaxPollInterval())
+                .until(d -> "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState"))
+                        ? Boolean.TRUE : null, pageLoadTimeout);
+    }
+
+    private static void record(String action, boolean fromTemplate, long nanos) {
+        ActionMetrics.record(action, fromTemplate ? TEMPLATE_PROFILE : EMPTY_PROFILE, 0, nanos);
+    }
+}
@@ -0,0 +1,53 @@
+package com.orangehrm.driver;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * DriverManager - Thread-confined holder for the current test's browser
+ *
+ * Real-World Context:
+ *  - In parallel runs, TestNG shares ONE test class instance between threads
+ *  - A plain "driver" field would be overwritten by whichever thread ran last
+ *  - A ThreadLocal gives every worker thread its own browser
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class DriverManager {
+
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+
+    private DriverManager() {
+        // Utility class - no instances
+    }
+
+    /**
+     * Get the browser owned by the calling thread
+     *
+     * @throws IllegalStateException if this thread has no browser
+     */
+    public static WebDriver getDriver() {
+        WebDriver driver = DRIVER.get();
+        if (driver == null) {
+            throw new IllegalStateException("No WebDriver bound to thread " + Thread.currentThread().getName()
+                    + " - was BaseTest.Setup() run on this thread?");
+        }
+        return driver;
+    }
+
+    public static boolean hasDriver() {
+        return DRIVER.get() != null;
+    }
+
+    public static void setDriver(WebDriver driver) {
+        DRIVER.set(driver);
+    }
+
+    /**
+     * Detach the browser from the calling thread
+     * Always call this when the test is done, pooled threads are reused
+     */
+    public static void unload() {
+        DRIVER.remove();
+    }
+}
@@ -0,0 +1,292 @@
+package com.orangehrm.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * DriverPool - Keeps warm browser sessions and lends them to tests
+ *
+ * Real-World Context:
+ *  - Launching Chrome takes seconds, running a login test takes less
+ *  - Instead of a new browser for every test method
+ *  - We borrow a warm one, reset it to a clean state and give it back
+ *
+ * Lifecycle of a session:
+ *  borrow() -> health check -> test runs -> release() -> reset -> idle
+ *  A session is quit (and later replaced) when it crashes, fails to reset
+ *  or has served maxReuse tests.
+ *
+ * New sessions come from a DriverPreLauncher. Filling the pool launches
+ * them on demand; from the first replacement on (recycled or crashed
+ * session, @FreshBrowser test) the next lookAhead browsers start in the
+ * background, so later replacements do not wait for Chrome.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class DriverPool {
+
+    private static final Logger LOG = LogManager.getLogger(DriverPool.class);
+
+    private final int maxSize;
+    private final int maxReuse;
+    private final String baseUrl;
+    private final Consumer<WebDriver> disposer;
+    private final DriverPreLauncher launcher;
+
+    private final Semaphore permits;
+    private final BlockingQueue<PooledSession> idle = new LinkedBlockingQueue<>();
+    private final Map<WebDriver, PooledSession> leased = Collections.synchronizedMap(new IdentityHashMap<>());
+    private volatile boolean closed;
+
+    /**
+     * @param lookAhead browsers launched ahead of demand (0 = launch when needed)
+     * @param factory   starts a browser already on the application (baseUrl)
+     */
+    public DriverPool(int maxSize, int maxReuse, int lookAhead, String baseUrl,
+                      Supplier<WebDriver> factory, Consumer<WebDriver> disposer) {
+        if (maxSize < 1 || maxReuse < 1) {
+            throw new IllegalArgumentException("Pool size and max reuse must be at least 1");
+        }
+        this.maxSize = maxSize;
+        this.maxReuse = maxReuse;
+        this.baseUrl = baseUrl;
+        this.disposer = disposer;
+        this.permits = new Semaphore(maxSize, true);
+        this.launcher = new DriverPreLauncher(lookAhead, factory, this::quitQuietly, this::isHealthy);
+    }
+
+    // ==================== PUBLIC METHODS (External API) ====================
+
+    /**
+     * Borrow a healthy session, already navigated to the base URL
+     * Blocks while all sessions are leased to other tests
+     *
+     * Real scenario: @BeforeMethod needs a browser for the next test
+     */
+    public WebDriver borrow() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool is already shut down");
+        }
+        permits.acquireUninterruptibly();
+        try {
+            PooledSession session = idle.poll();
+            if (session != null && !isHealthy(session.driver)) {
+                LOG.warn("Pooled browser crashed, replacing it");
+                retire(session.driver);
+                session = null;
+            }
+            if (session == null) {
+                session = open(launcher.take());
+            }
+            leased.put(session.driver, session);
+            return session.driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Borrow a session no other test has used
+     * It takes the place of an idle session, which is quit in the background,
+     * so the pool never holds more than maxSize browsers
+     *
+     * Real scenario: @FreshBrowser session-security test
+     */
+    public WebDriver borrowFresh() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool is already shut down");
+        }
+        permits.acquireUninterruptibly();
+        try {
+            PooledSession retired = idle.poll();
+            if (retired != null) {
+                launcher.discard(retired.driver);
+            }
+            PooledSession session = open(launcher.take());
+            // After take(): this one launches now, the next ones ahead
+            launcher.startLookAhead();
+            leased.put(session.driver, session);
+            return session.driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a session to the pool
+     * Resets cookies, storage and tabs so the next test starts clean
+     *
+     * Real scenario: @AfterMethod is done with the browser
+     */
+    public void release(WebDriver driver) {
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            // Not ours (or released twice) - never leak a browser
+            quitQuietly(driver);
+            return;
+        }
+        try {
+            session.uses++;
+            if (closed) {
+                quitQuietly(session.driver);
+            } else if (session.uses >= maxReuse || !reset(session)) {
+                retire(session.driver);
+            } else {
+                idle.offer(session);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Quit every session, idle or leased
+     * Called once at the end of the suite
+     */
+    public void shutdown() {
+        closed = true;
+        List<WebDriver> drivers = new ArrayList<>();
+        PooledSession session;
+        while ((session = idle.poll()) != null) {
+            drivers.add(session.driver);
+        }
+        synchronized (leased) {
+            drivers.addAll(leased.keySet());
+            leased.clear();
+        }
+        drivers.forEach(this::quitQuietly);
+        launcher.shutdown();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    // ==================== PRIVATE HELPERS ====================
+
+    /**
+     * Cheap liveness probe - one round trip to the browser
+     */
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Bring a used session back to a clean state
+     * Order matters: storage is cleared while still on the app origin,
+     * cookies are cleared for all domains, then we navigate home
+     *
+     * @return false if the session could not be reset and must be discarded
+     */
+    private boolean reset(PooledSession session) {
+        WebDriver driver = session.driver;
+        try {
+            closeExtraTabs(session);
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            if (driver instanceof HasCdp) {
+                ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+            driver.get(baseUrl);
+            return true;
+        } catch (WebDriverException e) {
+            LOG.warn("Could not reset pooled browser: {}", e.getClass().getSimpleName());
+            return false;
+        }
+    }
+
+    /**
+     * Keep the window the session was created with, close the rest
+     * getWindowHandles() has no defined order, so "the first one" could be
+     * a popup the test opened; if the test closed the original window we
+     * adopt whichever survivor is left as the new home window
+     * Always switches to it at the end: focus may still be on a popup the
+     * test closed, or inside an iframe
+     */
+    private void closeExtraTabs(PooledSession session) {
+        WebDriver driver = session.driver;
+        Set<String> handles = driver.getWindowHandles();
+        if (handles.isEmpty()) {
+            throw new WebDriverException("Pooled browser has no open windows");
+        }
+        boolean homeClosed = !handles.contains(session.homeHandle);
+        if (homeClosed) {
+            session.homeHandle = handles.iterator().next();
+        }
+        String keep = session.homeHandle;
+        for (String handle : handles) {
+            if (!handle.equals(keep)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(keep);
+        driver.switchTo().defaultContent();
+    }
+
+    /**
+     * Wrap a freshly launched browser, remembering its original window
+     */
+    private PooledSession open(WebDriver driver) {
+        try {
+            return new PooledSession(driver, driver.getWindowHandle());
+        } catch (WebDriverException e) {
+            quitQuietly(driver);
+            throw e;
+        }
+    }
+
+    /**
+     * Quit a session that will need a replacement
+     */
+    private void retire(WebDriver driver) {
+        quitQuietly(driver);
+        launcher.startLookAhead();
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            disposer.accept(driver);
+        } catch (WebDriverException e) {
+            // Browser already gone - nothing left to clean up
+        }
+    }
+
+    /**
+     * A browser session, the window it was created with
+     * and how many tests it has served
+     */
+    private static final class PooledSession {
+        private final WebDriver driver;
+        private String homeHandle;
+        private int uses;
+
+        private PooledSession(WebDriver driver, String homeHandle) {
+            this.driver = driver;
+            this.homeHandle = homeHandle;
+        }
+    }
+}
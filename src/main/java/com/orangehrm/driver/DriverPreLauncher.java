@@ -0,0 +1,196 @@
+package com.orangehrm.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * DriverPreLauncher - Starts the next browsers before anyone asks for them
+ *
+ * Real-World Context:
+ *  - A Chrome start plus the first navigation costs one to two seconds
+ *  - DriverPool needs new sessions while filling up, after recycling one
+ *    (maxReuse), after a crash and for @FreshBrowser tests
+ *  - Launched on demand, that time sits in @BeforeMethod; launched ahead
+ *    here, it overlaps with the tests that are running
+ *
+ * Idle until startLookAhead(): filling the pool launches on demand, so a
+ * suite that never replaces a session never starts a spare browser.
+ * DriverPool starts the look-ahead on its first replacement (recycled or
+ * crashed session, @FreshBrowser test); from then on lookAhead launches
+ * are kept ready or in progress. take() hands over the oldest one,
+ * waiting only for what is left of its start, and queues a replacement.
+ * A pre-launched browser that died while it waited is quit, not handed
+ * over. With nothing usable queued it launches on the calling thread.
+ * Leftover browsers are quit by shutdown() at the end of the suite.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+final class DriverPreLauncher {
+
+    private static final Logger LOG = LogManager.getLogger(DriverPreLauncher.class);
+
+    private final int lookAhead;
+    private final Supplier<WebDriver> launcher;
+    private final Consumer<WebDriver> disposer;
+    private final Predicate<WebDriver> healthCheck;
+    private final Queue<Future<WebDriver>> ahead = new ConcurrentLinkedQueue<>();
+    private final ExecutorService executor;
+    private final AtomicLong handedOver = new AtomicLong();
+    private final AtomicLong launchedInline = new AtomicLong();
+    private volatile boolean started;
+    private volatile boolean closed;
+
+    /**
+     * @param lookAhead browsers kept launching ahead once started (0 = launch on demand only)
+     * @param launcher  starts a browser, already on the application
+     * @param disposer  quits a browser
+     * @param healthCheck is a pre-launched browser still alive when it is handed over
+     */
+    DriverPreLauncher(int lookAhead, Supplier<WebDriver> launcher, Consumer<WebDriver> disposer,
+                      Predicate<WebDriver> healthCheck) {
+        this.lookAhead = Math.max(0, lookAhead);
+        this.launcher = launcher;
+        this.disposer = disposer;
+        this.healthCheck = healthCheck;
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "driver-prelaunch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ==================== HAND-OVER ====================
+
+    /**
+     * A new browser, pre-launched if one is ready or on its way
+     *
+     * Real scenario: DriverPool has no idle session for the next test
+     */
+    WebDriver take() {
+        if (closed) {
+            throw new IllegalStateException("Driver pre-launcher is already shut down");
+        }
+        Future<WebDriver> next = nextLaunch();
+        if (next != null) {
+            long start = System.nanoTime();
+            try {
+                WebDriver driver = next.get();
+                if (healthCheck.test(driver)) {
+                    handedOver.incrementAndGet();
+                    LOG.debug("Pre-launched browser handed over after {} ms",
+                            (System.nanoTime() - start) / 1_000_000);
+                    return driver;
+                }
+                // Crashed while it waited in the look-ahead
+                LOG.warn("Pre-launched browser died before it was used, launching now");
+                discard(driver);
+            } catch (ExecutionException e) {
+                LOG.warn("Pre-launch failed, launching now: {}", e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a pre-launched browser", e);
+            }
+        }
+        launchedInline.incrementAndGet();
+        return launcher.get();
+    }
+
+    /**
+     * Quit a browser off the calling thread
+     *
+     * Real scenario: a @FreshBrowser test retires an idle pooled session
+     */
+    void discard(WebDriver driver) {
+        try {
+            executor.execute(() -> quitQuietly(driver));
+        } catch (RuntimeException e) {
+            // Executor already shut down - quit here instead
+            quitQuietly(driver);
+        }
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * Begin launching ahead - replacements are needed from now on
+     * Later calls do nothing
+     *
+     * Real scenario: DriverPool recycled its first session
+     */
+    void startLookAhead() {
+        if (!started) {
+            synchronized (this) {
+                started = true;
+                refill();
+            }
+        }
+    }
+
+    /**
+     * Quit every pre-launched browser that was never handed over
+     * Launches still in progress are waited for, so no Chrome outlives the suite
+     */
+    void shutdown() {
+        List<Future<WebDriver>> launches;
+        synchronized (this) {
+            closed = true;
+            launches = new ArrayList<>(ahead);
+            ahead.clear();
+        }
+        List<WebDriver> leftovers = new ArrayList<>();
+        for (Future<WebDriver> next : launches) {
+            try {
+                leftovers.add(next.get());
+            } catch (ExecutionException e) {
+                // Never started - nothing to quit
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        leftovers.forEach(this::quitQuietly);
+        executor.shutdown();
+        LOG.info("Browser pre-launch: {} handed over, {} launched on demand, {} leftovers quit",
+                handedOver.get(), launchedInline.get(), leftovers.size());
+    }
+
+    /**
+     * Oldest launch, replaced right away so the look-ahead stays full (once started)
+     * Synchronized with shutdown(): a browser is either handed over or quit, never both
+     */
+    private synchronized Future<WebDriver> nextLaunch() {
+        Future<WebDriver> next = ahead.poll();
+        refill();
+        return next;
+    }
+
+    // Synchronized: parallel take() calls must not overshoot the look-ahead
+    private synchronized void refill() {
+        while (started && !closed && ahead.size() < lookAhead) {
+            ahead.add(executor.submit(launcher::get));
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            disposer.accept(driver);
+        } catch (WebDriverException e) {
+            // Browser already gone - nothing left to clean up
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.orangehrm.driver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * FreshBrowser - Run a test in a browser no other test has used
+ * Use on tests whose result must not depend on a reset pooled session
+ * (session security, cache and cookie behaviour)
+ *
+ * The browser is pre-launched in the background, so opting in costs
+ * a hand-over, not a Chrome start.
+ *
+ * Example:
+ *   @FreshBrowser
+ *   @Test
+ *   public void testAccessDashboardAfterLogout() { ... }
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface FreshBrowser {
+}
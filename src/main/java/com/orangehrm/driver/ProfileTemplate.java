@@ -0,0 +1,238 @@
+package com.orangehrm.driver;
+
+import com.orangehrm.config.FrameworkConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ProfileTemplate - One warm Chrome profile, cloned for every new browser
+ *
+ * Real-World Context:
+ *  - chromedriver starts every session with an empty temporary profile
+ *  - Chrome then creates its profile files, downloads OrangeHRM's JS/CSS
+ *    bundles and compiles them again, in every single browser
+ *  - Here one profile is warmed up once (HTTP cache and V8 code cache
+ *    primed from the base URL) and each session starts from a clone
+ *
+ * Layout (driver.profile.dir, default /dev/shm/orangehrm-profiles, a
+ * memory-backed tmpfs; the system temp directory where there is none):
+ *  - <pid>/template     the warm profile, built by DriverFactory
+ *  - <pid>/session-N    one clone per browser, deleted when it quits
+ *
+ * Cloning: HTTP and code cache entry files are hard-linked (no bytes copied),
+ * everything Chrome rewrites in place (preferences, indexes, databases) is copied.
+ * tmpfs has no copy-on-write, so a cache entry a clone rewrites is rewritten
+ * for all clones; Chrome checksums its entries, and a torn one is only a
+ * cache miss.
+ *
+ * Directories of JVMs that are no longer running are removed on start-up.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+final class ProfileTemplate {
+
+    private static final Logger LOG = LogManager.getLogger(ProfileTemplate.class);
+
+    // HTTP and V8 code cache: one file per entry, created and deleted whole.
+    // GPU/shader caches keep entries in shared block files and are copied.
+    private static final Set<String> SHARED_CACHES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "Cache", "Code Cache")));
+
+    // Chrome's single-instance lock, tied to the process that built the template
+    private static final Set<String> LOCK_FILES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "SingletonLock", "SingletonCookie", "SingletonSocket")));
+
+    private final Path root;
+    private final Path template;
+    private final AtomicInteger clones = new AtomicInteger();
+    private volatile boolean built;
+
+    private ProfileTemplate(Path root) {
+        this.root = root;
+        this.template = root.resolve("template");
+    }
+
+    /**
+     * @return the template of this JVM, or null if driver.profile.template is off
+     */
+    static ProfileTemplate fromConfig() {
+        if (!FrameworkConfig.getBoolean("driver.profile.template", false)) {
+            return null;
+        }
+        Path shm = Paths.get("/dev/shm");
+        Path base = Paths.get(FrameworkConfig.getString("driver.profile.dir",
+                Files.isDirectory(shm) && Files.isWritable(shm)
+                        ? shm.resolve("orangehrm-profiles").toString()
+                        : Paths.get(System.getProperty("java.io.tmpdir"), "orangehrm-profiles").toString()));
+        removeAbandoned(base);
+        return new ProfileTemplate(base.resolve(String.valueOf(ProcessHandle.current().pid())));
+    }
+
+    // ==================== TEMPLATE ====================
+
+    /**
+     * Empty directory for DriverFactory to build the template in
+     */
+    Path prepareTemplate() {
+        delete(template);
+        try {
+            return Files.createDirectories(template);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create profile template " + template, e);
+        }
+    }
+
+    /**
+     * The browser that warmed the template has quit: it can be cloned from now on
+     */
+    void markBuilt() {
+        for (String lock : LOCK_FILES) {
+            try {
+                Files.deleteIfExists(template.resolve(lock));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not remove " + lock + " from the profile template", e);
+            }
+        }
+        built = true;
+    }
+
+    boolean isBuilt() {
+        return built;
+    }
+
+    // ==================== CLONES ====================
+
+    /**
+     * A private profile for one browser, cloned from the template
+     *
+     * Real scenario: DriverFactory launches the next pooled browser
+     */
+    Path newClone() {
+        if (!built) {
+            throw new IllegalStateException("Profile template is not built yet");
+        }
+        Path clone = root.resolve("session-" + clones.incrementAndGet());
+        try {
+            Files.walkFileTree(template, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    Files.createDirectories(clone.resolve(template.relativize(dir).toString()));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    if (!attrs.isRegularFile()) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    Path relative = template.relativize(file);
+                    Path target = clone.resolve(relative.toString());
+                    if (isSharedCacheEntry(relative)) {
+                        try {
+                            Files.createLink(target, file);
+                            return FileVisitResult.CONTINUE;
+                        } catch (IOException | UnsupportedOperationException e) {
+                            // Hard links not supported here - fall back to a copy
+                        }
+                    }
+                    Files.copy(file, target);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            return clone;
+        } catch (IOException e) {
+            delete(clone);
+            throw new UncheckedIOException("Could not clone the profile template to " + clone, e);
+        }
+    }
+
+    /**
+     * Remove a clone (or the template) - never fails, a leftover is only disk space
+     */
+    void delete(Path profile) {
+        if (!Files.exists(profile)) {
+            return;
+        }
+        try {
+            Files.walkFileTree(profile, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    Files.delete(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                    Files.delete(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOG.warn("Could not delete browser profile {}: {}", profile, e.getMessage());
+        }
+    }
+
+    /**
+     * Remove the template and every clone left behind
+     * Called once at the end of the suite
+     */
+    void close() {
+        delete(root);
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Entry files of a cache folder, but not its index, which Chrome rewrites
+     */
+    private static boolean isSharedCacheEntry(Path relative) {
+        boolean inCache = false;
+        for (Path part : relative) {
+            if (SHARED_CACHES.contains(part.toString())) {
+                inCache = true;
+            } else if (part.toString().startsWith("index")) {
+                return false;
+            }
+        }
+        return inCache;
+    }
+
+    /**
+     * Delete the directories of runs that crashed or were killed
+     */
+    private static void removeAbandoned(Path base) {
+        if (!Files.isDirectory(base)) {
+            return;
+        }
+        try (DirectoryStream<Path> runs = Files.newDirectoryStream(base)) {
+            for (Path run : runs) {
+                long pid;
+                try {
+                    pid = Long.parseLong(run.getFileName().toString());
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                if (!ProcessHandle.of(pid).isPresent()) {
+                    new ProfileTemplate(run).close();
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not clean up old browser profiles in {}: {}", base, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.orangehrm.listeners;
+
+import com.orangehrm.artifacts.ArtifactWriter;
+import com.orangehrm.artifacts.FailureCapture;
+import com.orangehrm.config.FrameworkConfig;
+import com.orangehrm.driver.DriverManager;
+import com.orangehrm.reporting.ReportSteps;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * FailureCaptureListener - Screenshot, page source, URL and console log of failed tests
+ *
+ * Runs in onTestFailure, i.e. before @AfterMethod hands the browser back
+ * to the pool (which would reset the page). The test thread only grabs
+ * the raw data; ArtifactWriter writes it in the background.
+ *
+ * Registered in testng.xml BEFORE ReportListener, so the artifacts are
+ * linked from the failed test in the HTML report.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class FailureCaptureListener implements ITestListener, ISuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(FailureCaptureListener.class);
+
+    private final boolean enabled = FrameworkConfig.getBoolean("capture.enabled", true);
+    private ArtifactWriter writer;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (enabled) {
+            writer = new ArtifactWriter(
+                    Paths.get(FrameworkConfig.getString("capture.dir", "target/artifacts")),
+                    Math.max(1, FrameworkConfig.getInt("capture.threads", 2)),
+                    Math.max(1, FrameworkConfig.getInt("capture.queueSize", 32)));
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        if (writer == null || !DriverManager.hasDriver()) {
+            return;
+        }
+        long start = System.nanoTime();
+        String testId = MetricsListener.testId(result);
+        FailureCapture capture = FailureCapture.take(DriverManager.getDriver(), testId, result.getStartMillis());
+        Map<String, Path> files = writer.submit(capture);
+
+        if (capture.getUrl() != null) {
+            ReportSteps.info("Failed on " + capture.getUrl());
+        }
+        files.forEach(ReportSteps::attachment);
+        LOG.info("Failure captured in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (writer != null) {
+            writer.close(Duration.ofSeconds(FrameworkConfig.getLong("capture.shutdownSeconds", 30)));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.orangehrm.listeners;
+
+import com.orangehrm.config.FrameworkConfig;
+import com.orangehrm.metrics.ActionMetrics;
+import com.orangehrm.metrics.LocatorProfiler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MetricsListener - Turns ActionMetrics into per-test and per-suite reports
+ *
+ * Output (JSON, times in milliseconds, p50/p95/p99/max/mean):
+ *  - target/metrics/tests/<Class.method>.json  one file per test
+ *  - target/metrics/suite-actions.json         whole suite
+ *  - target/metrics/locators.json              locators ranked by browser cost,
+ *                                              when LocatorProfiler is enabled
+ *
+ * Test and suite files also list "network": the XHR/fetch calls of each
+ * action that waited for network idle.
+ *
+ * Latency budgets: a test that exceeded a budget is turned into a failure
+ * with the list of violations as its cause. Locators over the
+ * locator.failThresholdMs threshold are reported the same way. This
+ * happens in afterInvocation, before TestNG hands the result to any
+ * ITestListener, so every listener sees the test as failed.
+ *
+ * Registered in testng.xml.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class MetricsListener implements ITestListener, IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(MetricsListener.class);
+    private static final Json JSON = new Json();
+    private final Path outputDir = Paths.get(FrameworkConfig.getString("metrics.dir", "target/metrics"));
+
+    @Override
+    public void onStart(ISuite suite) {
+        ActionMetrics.resetSuite();
+        LocatorProfiler.resetSuite();
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        ActionMetrics.beginTest(testId(result));
+    }
+
+    /**
+     * Fail a passing test that exceeded a budget, while its result can still change
+     * Runs on the test thread, so the test's scope is still current
+     */
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod() || result.getStatus() != ITestResult.SUCCESS) {
+            return;
+        }
+        ActionMetrics.TestScope test = ActionMetrics.currentTest();
+        if (test != null && !test.getBudgetViolations().isEmpty()) {
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError("Latency budget exceeded: " + test.getBudgetViolations()));
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        finish(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        finish(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        finish(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        finish(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("suite", suite.getName());
+        report.put("actions", ActionMetrics.suiteReport());
+        report.put("network", ActionMetrics.suiteRequestReport());
+        write(outputDir.resolve("suite-actions.json"), report);
+        LOG.info("Action timings: {}", outputDir.resolve("suite-actions.json").toAbsolutePath());
+
+        if (LocatorProfiler.isEnabled()) {
+            writeLocatorReport(suite);
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private void writeLocatorReport(ISuite suite) {
+        List<Map<String, Object>> ranking = LocatorProfiler.ranking();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("suite", suite.getName());
+        report.putAll(LocatorProfiler.settings());
+        report.put("locators", ranking);
+        write(outputDir.resolve("locators.json"), report);
+
+        // The few worth fixing first, straight in the suite log
+        for (Map<String, Object> locator : ranking.subList(0, Math.min(5, ranking.size()))) {
+            LOG.info("Locator cost {} ms ({} lookups, mean {} ms, {} matches) {} {}",
+                    locator.get("costMillis"), locator.get("lookups"), locator.get("meanMillis"),
+                    locator.get("maxMatches"), locator.get("locator"), locator.get("flags"));
+        }
+        LOG.info("Locator profile: {}", outputDir.resolve("locators.json").toAbsolutePath());
+    }
+
+    private void finish(ITestResult result) {
+        ActionMetrics.TestScope test = ActionMetrics.endTest();
+        if (test == null) {
+            return;
+        }
+        List<String> violations = test.getBudgetViolations();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("test", test.getTestId());
+        report.put("durationMillis", result.getEndMillis() - result.getStartMillis());
+        report.put("budgetViolations", violations);
+        report.put("actions", test.report());
+        report.put("network", test.requestReport());
+        write(outputDir.resolve("tests").resolve(test.getTestId() + ".json"), report);
+    }
+
+    /**
+     * Stable id of a test invocation: Class.method, plus a parameter hash for data-driven runs
+     * Shared with the log context so metrics and log files use the same name
+     */
+    public static String testId(ITestResult result) {
+        String id = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        Object[] parameters = result.getParameters();
+        return parameters.length == 0 ? id : id + "-" + Integer.toHexString(Arrays.hashCode(parameters));
+    }
+
+    private static void write(Path file, Map<String, Object> content) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, JSON.toJson(content).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write metrics to " + file, e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.orangehrm.listeners;
+
+import com.orangehrm.config.FrameworkConfig;
+import com.orangehrm.reporting.ChunkedReportWriter;
+import com.orangehrm.reporting.ReportSteps;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import java.nio.file.Paths;
+
+/**
+ * ReportListener - Feeds finished tests into the HTML report as they finish
+ *
+ * Each test is written with the steps its page objects recorded
+ * (ReportSteps), links to its attachments and its own log file.
+ * Memory stays bounded however long the suite is: see ChunkedReportWriter.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class ReportListener implements ITestListener, ISuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(ReportListener.class);
+
+    private final boolean enabled = FrameworkConfig.getBoolean("report.enabled", true);
+    private ChunkedReportWriter writer;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (enabled) {
+            writer = new ChunkedReportWriter(
+                    Paths.get(FrameworkConfig.getString("report.dir", "target/reports")),
+                    Paths.get(FrameworkConfig.getString("logs.dir", "target/logs")),
+                    suite.getName(),
+                    FrameworkConfig.getInt("report.chunkSize", 500),
+                    FrameworkConfig.getInt("report.flushEvery", 25));
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        write(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        write(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        write(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        write(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (writer != null) {
+            writer.close();
+            LOG.info("HTML report: {}",
+                    Paths.get(FrameworkConfig.getString("report.dir", "target/reports"), "index.html").toAbsolutePath());
+        }
+    }
+
+    private void write(ITestResult result) {
+        ReportSteps.Recording recording = ReportSteps.end();
+        if (writer != null) {
+            writer.write(result, MetricsListener.testId(result), recording);
+        }
+    }
+}
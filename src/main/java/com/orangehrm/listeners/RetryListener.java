@@ -0,0 +1,91 @@
+package com.orangehrm.listeners;
+
+import com.orangehrm.config.FrameworkConfig;
+import com.orangehrm.retry.FlakeStats;
+import com.orangehrm.retry.TransientRetryAnalyzer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.IAnnotationTransformer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * RetryListener - Wires TransientRetryAnalyzer into every test and reports flakes
+ *
+ *  - Tests without their own retryAnalyzer get TransientRetryAnalyzer
+ *  - Each suite starts with a retry budget of retry.budget (default 5)
+ *  - target/metrics/flaky-tests.json lists every retried test, why, and
+ *    whether it passed in the end
+ *
+ * Turn retries off with -Dretry.budget=0.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class RetryListener implements IAnnotationTransformer, ITestListener, ISuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(RetryListener.class);
+    private static final Json JSON = new Json();
+
+    // What @Test(retryAnalyzer) is when a test sets none - read from the annotation, not TestNG internals
+    private static final Class<?> DEFAULT_RETRY_ANALYZER = defaultRetryAnalyzer();
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<?> analyzer = annotation.getRetryAnalyzerClass();
+        if (analyzer == null || analyzer == DEFAULT_RETRY_ANALYZER) {
+            annotation.setRetryAnalyzer(TransientRetryAnalyzer.class);
+        }
+    }
+
+    private static Class<?> defaultRetryAnalyzer() {
+        try {
+            return (Class<?>) Test.class.getMethod("retryAnalyzer").getDefaultValue();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("@Test has no retryAnalyzer attribute", e);
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        FlakeStats.reset(Math.max(0, FrameworkConfig.getInt("retry.budget", 5)));
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        FlakeStats.recordOutcome(MetricsListener.testId(result), true);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        FlakeStats.recordOutcome(MetricsListener.testId(result), false);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!FlakeStats.hasRetries()) {
+            return;
+        }
+        Path file = Paths.get(FrameworkConfig.getString("metrics.dir", "target/metrics"), "flaky-tests.json");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, JSON.toJson(FlakeStats.report()).getBytes(StandardCharsets.UTF_8));
+            LOG.info("Retried tests: {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            LOG.warn("Could not write flake statistics to {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.orangehrm.listeners;
+
+import com.orangehrm.config.FrameworkConfig;
+import com.orangehrm.sharding.MakespanSimulator;
+import com.orangehrm.sharding.ShardPlanner;
+import com.orangehrm.sharding.TestTimings;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlTest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ScheduleListener - Runs the longest tests first
+ *
+ * Real-World Context:
+ *  - priority = 1..7 in our test classes only keeps the console tidy
+ *  - With 4 workers, a long Dashboard test started last keeps one worker
+ *    busy while the other three sit idle: the suite waits for the straggler
+ *  - Starting the longest tests first lets the short ones fill the gaps
+ *
+ * The order comes from target/test-timings.properties (see ShardListener); TestNG
+ * then hands each next test to whichever worker is free. Real ordering
+ * constraints (dependsOnMethods / dependsOnGroups) are still enforced by
+ * TestNG. Cosmetic priorities are flattened to ONE shared priority and the
+ * returned list order drives dispatch: TestNG chains priority levels, so
+ * one level per test would run a parallel suite one test at a time.
+ *
+ * Before the run the expected makespan of both orders is logged, after the
+ * run the measured one - so the gain can be checked on every build.
+ *
+ * Disable with -Dschedule.longestFirst=false.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class ScheduleListener implements IMethodInterceptor, ISuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(ScheduleListener.class);
+
+    // The one priority every scheduled test gets (TestNG's default)
+    private static final int SHARED_PRIORITY = 0;
+
+    private final boolean enabled = FrameworkConfig.getBoolean("schedule.longestFirst", true);
+    private final TestTimings timings = new TestTimings(FrameworkConfig.timingsFile());
+    private final AtomicLong expectedMillis = new AtomicLong();
+    private long suiteStartNanos;
+
+    @Override
+    public void onStart(ISuite suite) {
+        suiteStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!enabled || methods.size() < 2) {
+            return methods;
+        }
+        Map<String, Long> history = timings.load();
+        long unknown = MakespanSimulator.median(history.values(), ShardPlanner.DEFAULT_ESTIMATE_MILLIS);
+        Map<String, Long> estimates = new HashMap<>();
+        Map<String, Integer> declaredPriorities = new HashMap<>();
+        for (IMethodInstance instance : methods) {
+            String key = ShardListener.key(instance.getMethod());
+            estimates.put(key, history.getOrDefault(key, unknown));
+            declaredPriorities.put(key, instance.getMethod().getPriority());
+        }
+
+        // Baseline: what TestNG would do with the declared priorities
+        List<IMethodInstance> byPriority = new ArrayList<>(methods);
+        byPriority.sort(Comparator.comparingInt((IMethodInstance m) -> m.getMethod().getPriority())
+                .thenComparing(m -> ShardListener.key(m.getMethod())));
+
+        List<IMethodInstance> longestFirst = new ArrayList<>(methods);
+        longestFirst.sort(Comparator.comparingLong(
+                        (IMethodInstance m) -> estimates.get(ShardListener.key(m.getMethod()))).reversed()
+                .thenComparing(m -> ShardListener.key(m.getMethod())));
+        for (IMethodInstance instance : longestFirst) {
+            instance.getMethod().setPriority(SHARED_PRIORITY);
+        }
+
+        int workers = workers(context.getCurrentXmlTest());
+        Map<String, Set<String>> dependencies = dependencies(methods);
+        long expected = MakespanSimulator.makespan(keys(longestFirst), estimates, dependencies, workers);
+        long priorityOrder = MakespanSimulator.makespan(keys(byPriority), estimates, dependencies,
+                declaredPriorities, workers);
+        expectedMillis.addAndGet(expected);
+
+        LOG.info("Longest-first schedule for '{}': {} tests on {} worker(s), expected makespan {} (priority order: {})",
+                context.getName(), methods.size(), workers, seconds(expected), seconds(priorityOrder));
+        return longestFirst;
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (enabled && expectedMillis.get() > 0) {
+            long actual = (System.nanoTime() - suiteStartNanos) / 1_000_000;
+            LOG.info("Suite makespan {} (expected {})", seconds(actual), seconds(expectedMillis.get()));
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private static int workers(XmlTest test) {
+        return test.getParallel() != null && test.getParallel().isParallel()
+                ? Math.max(1, test.getThreadCount()) : 1;
+    }
+
+    private static Map<String, Set<String>> dependencies(List<IMethodInstance> methods) {
+        Map<String, String> keyByQualifiedName = new HashMap<>();
+        for (IMethodInstance instance : methods) {
+            keyByQualifiedName.put(instance.getMethod().getQualifiedName(), ShardListener.key(instance.getMethod()));
+        }
+        Map<String, Set<String>> dependencies = new HashMap<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            for (String dependency : method.getMethodsDependedUpon()) {
+                String key = keyByQualifiedName.get(dependency);
+                if (key != null) {
+                    dependencies.computeIfAbsent(ShardListener.key(method), k -> new HashSet<>()).add(key);
+                }
+            }
+        }
+        return dependencies;
+    }
+
+    private static List<String> keys(List<IMethodInstance> methods) {
+        List<String> keys = new ArrayList<>();
+        methods.forEach(m -> keys.add(ShardListener.key(m.getMethod())));
+        return keys;
+    }
+
+    private static String seconds(long millis) {
+        return String.format("%.1fs", millis / 1000.0);
+    }
+}
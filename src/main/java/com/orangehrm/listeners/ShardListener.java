@@ -0,0 +1,210 @@
+package com.orangehrm.listeners;
+
+import com.orangehrm.config.FrameworkConfig;
+import com.orangehrm.sharding.Lane;
+import com.orangehrm.sharding.ShardPlanner;
+import com.orangehrm.sharding.TestTimings;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ShardListener - Runs only this machine's share of the suite
+ *
+ * Selection: -Dshard.total=4 -Dshard.index=2   (index 1..total)
+ * Every shard computes the same duration-balanced plan (ShardPlanner)
+ * from target/test-timings.properties and keeps its own part. Methods
+ * linked by dependsOnMethods always land in the same shard, and so do all
+ * lanes of a data-driven class (Lane), each timed on its own.
+ *
+ * Recording: after every run the measured duration of each passed test
+ * (its @BeforeMethod setup included - that is where the Dashboard tests
+ * log in) is merged into the timings file. A sharded run only leaves its
+ * part next to the file; the shard that finishes last merges all parts,
+ * so no shard of the run ever plans from a file another shard changed.
+ * Parts are named after the run: -Dshard.runId (e.g. the CI build number),
+ * by default a fingerprint of the timings the run planned from. Set it
+ * explicitly if an aborted run may have left parts behind.
+ * Shards on separate machines never see each other's parts: run them
+ * with -Dshard.timings.update=false.
+ *
+ * All shards of one run must plan from the same timings file (restore it
+ * from the CI cache before the shards start, or set shard.timings.file to
+ * a committed file).
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class ShardListener implements IMethodInterceptor, IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(ShardListener.class);
+
+    private final TestTimings timings = new TestTimings(FrameworkConfig.timingsFile());
+    private final Map<String, Long> measured = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+    // Names this run's timing parts, fixed by the first plan
+    private volatile String runId;
+
+    // ==================== SHARD SELECTION ====================
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int total = FrameworkConfig.getInt("shard.total", 1);
+        if (total <= 1) {
+            return methods;
+        }
+        int index = FrameworkConfig.getInt("shard.index", 1);
+        if (index < 1 || index > total) {
+            throw new IllegalArgumentException("shard.index must be between 1 and " + total + " but was " + index);
+        }
+
+        Map<String, Long> history = timings.load();
+        if (runId == null) {
+            runId = FrameworkConfig.getString("shard.runId", TestTimings.fingerprint(history));
+        }
+        List<ShardPlanner.Shard> plan = ShardPlanner.plan(dependencyGroups(methods), history, total);
+        ShardPlanner.Shard mine = plan.get(index - 1);
+        Set<String> selected = new HashSet<>(mine.getTests());
+
+        List<IMethodInstance> kept = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            if (selected.contains(key(method.getMethod()))) {
+                kept.add(method);
+            }
+        }
+
+        List<String> estimates = new ArrayList<>();
+        plan.forEach(shard -> estimates.add(String.format("%.1fs", shard.getEstimateMillis() / 1000.0)));
+        LOG.info("Shard {}/{} of '{}': {} of {} tests, estimated {} (all shards: {})",
+                index, total, context.getName(), kept.size(), methods.size(),
+                String.format("%.1fs", mine.getEstimateMillis() / 1000.0), estimates);
+        return kept;
+    }
+
+    /**
+     * Tests connected through dependsOnMethods, as groups of Class.method keys
+     */
+    private static List<List<String>> dependencyGroups(List<IMethodInstance> methods) {
+        Map<String, String> keyByQualifiedName = new HashMap<>();
+        Map<String, String> parent = new LinkedHashMap<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            keyByQualifiedName.put(method.getQualifiedName(), key(method));
+            parent.putIfAbsent(key(method), key(method));
+        }
+        Map<String, String> firstLane = new HashMap<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            for (String dependency : method.getMethodsDependedUpon()) {
+                String other = keyByQualifiedName.get(dependency);
+                if (other != null) {
+                    parent.put(root(parent, other), root(parent, key(method)));
+                }
+            }
+            // Lanes share their rows inside one JVM - never split them
+            if (method.getInstance() instanceof Lane) {
+                String other = firstLane.putIfAbsent(methodKey(method), key(method));
+                if (other != null) {
+                    parent.put(root(parent, other), root(parent, key(method)));
+                }
+            }
+        }
+        Map<String, Set<String>> groups = new LinkedHashMap<>();
+        for (String test : parent.keySet()) {
+            groups.computeIfAbsent(root(parent, test), r -> new LinkedHashSet<>()).add(test);
+        }
+        List<List<String>> result = new ArrayList<>();
+        groups.values().forEach(group -> result.add(new ArrayList<>(group)));
+        return result;
+    }
+
+    private static String root(Map<String, String> parent, String test) {
+        String current = test;
+        while (!parent.get(current).equals(current)) {
+            current = parent.get(current);
+        }
+        return current;
+    }
+
+    /**
+     * Timing key of a test: Class.method, plus .laneN for a Lane instance
+     */
+    static String key(ITestNGMethod method) {
+        Object instance = method.getInstance();
+        return instance instanceof Lane
+                ? methodKey(method) + ".lane" + ((Lane) instance).getLane()
+                : methodKey(method);
+    }
+
+    private static String methodKey(ITestNGMethod method) {
+        return method.getRealClass().getSimpleName() + "." + method.getMethodName();
+    }
+
+    // ==================== DURATION RECORDING ====================
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        boolean setup = method.isConfigurationMethod() && method.getTestMethod().isBeforeMethodConfiguration();
+        if ((setup || method.isTestMethod()) && startNanos.get() == null) {
+            startNanos.set(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (method.isConfigurationMethod()) {
+            // Failed setup: the test is skipped, don't charge its setup to the next one
+            if (!result.isSuccess() && method.getTestMethod().isBeforeMethodConfiguration()) {
+                startNanos.remove();
+            }
+            return;
+        }
+        Long start = startNanos.get();
+        startNanos.remove();
+        if (start != null && result.isSuccess()) {
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            // Data-driven methods: all invocations count for the method
+            measured.merge(key(method.getTestMethod()), millis, Long::sum);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!FrameworkConfig.getBoolean("shard.timings.update", true)) {
+            return;
+        }
+        int total = FrameworkConfig.getInt("shard.total", 1);
+        if (total <= 1) {
+            timings.update(measured);
+            return;
+        }
+        int index = FrameworkConfig.getInt("shard.index", 1);
+        if (runId == null) {
+            runId = FrameworkConfig.getString("shard.runId", TestTimings.fingerprint(timings.load()));
+        }
+        if (timings.updateShard(measured, runId, index, total)) {
+            LOG.info("All {} shards finished: test timings updated", total);
+        } else {
+            LOG.warn("Shard {}/{} timings kept aside (run {}) until every shard has finished. They are only merged "
+                    + "if all shards share this directory - on separate machines run with "
+                    + "-Dshard.timings.update=false", index, total, runId);
+        }
+    }
+}
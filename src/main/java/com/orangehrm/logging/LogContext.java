@@ -0,0 +1,98 @@
+package com.orangehrm.logging;
+
+import org.apache.logging.log4j.ThreadContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * LogContext - Who is logging: test, browser session and current step
+ *
+ * Real-World Context:
+ *  - Four parallel tests writing to one console is unreadable
+ *  - Every log line carries the keys below (Log4j2 ThreadContext), so
+ *    log4j2.xml can route it to the right per-test file
+ *
+ * Keys: test (Class.method), session (WebDriver session id), step (action)
+ *
+ * The context map is configured garbage-free (log4j2.component.properties),
+ * so changing the step on every page action allocates nothing.
+ *
+ * Per-test files are opened in append mode (log4j2.xml), so each suite
+ * starts by deleting the previous run's files: clearTestLogs().
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class LogContext {
+
+    public static final String TEST = "test";
+    public static final String SESSION = "session";
+    public static final String STEP = "step";
+
+    private LogContext() {
+        // Utility class - no instances
+    }
+
+    /**
+     * Delete the per-test log files of earlier runs
+     * Must run before the first test logs: an open file would only be unlinked
+     *
+     * Real scenario: mvn test without clean - files must not mix two runs
+     */
+    public static void clearTestLogs() {
+        // Same directory as log4j2.xml: ${sys:logs.dir:-target/logs}/tests
+        Path dir = Paths.get(System.getProperty("logs.dir", "target/logs"), "tests");
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.log")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not clear per-test logs in " + dir, e);
+        }
+    }
+
+    /**
+     * Start attributing this thread's log lines to a test
+     */
+    public static void beginTest(String testId) {
+        ThreadContext.clearMap();
+        ThreadContext.put(TEST, testId);
+    }
+
+    public static void setSession(String sessionId) {
+        ThreadContext.put(SESSION, sessionId);
+    }
+
+    /**
+     * Enter a step
+     *
+     * @return the previous step, to hand back to restoreStep()
+     */
+    public static String enterStep(String step) {
+        String previous = ThreadContext.get(STEP);
+        ThreadContext.put(STEP, step);
+        return previous;
+    }
+
+    public static void restoreStep(String previous) {
+        if (previous == null) {
+            ThreadContext.remove(STEP);
+        } else {
+            ThreadContext.put(STEP, previous);
+        }
+    }
+
+    /**
+     * Test finished - pooled worker threads must not leak its keys
+     */
+    public static void endTest() {
+        ThreadContext.clearMap();
+    }
+}
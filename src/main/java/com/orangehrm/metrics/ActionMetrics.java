@@ -0,0 +1,248 @@
+package com.orangehrm.metrics;
+
+import com.orangehrm.config.FrameworkConfig;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * ActionMetrics - Where does the time go inside a test?
+ *
+ * Real-World Context:
+ *  - A test takes 9 seconds, but which step was slow: the wait or the click?
+ *  - Every BasePage primitive and every page-object method reports here
+ *  - Latency is split into wait time (polling for the page) and command time
+ *  - Actions that wait for the network also report how many XHR/fetch
+ *    calls the application made (RequestStats)
+ *
+ * Two scopes are kept:
+ *  - suite : all tests, all threads (lock-free histograms)
+ *  - test  : the test currently running on this thread
+ *
+ * Cost per action: two System.nanoTime() calls and a few map lookups.
+ * The "action target" key of a primitive is built once per action and
+ * target, then looked up, never concatenated on the hot path.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class ActionMetrics {
+
+    private static final boolean ENABLED = FrameworkConfig.getBoolean("metrics.enabled", true);
+    private static final LatencyBudgets BUDGETS = LatencyBudgets.load();
+
+    private static final Map<String, ActionStats> SUITE = new ConcurrentHashMap<>();
+    private static final Map<String, RequestStats> SUITE_REQUESTS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<TestScope> CURRENT_TEST = new ThreadLocal<>();
+
+    // action -> target (locator, contract...) -> "action target" key, built once (bounded)
+    private static final Map<String, Map<Object, String>> LABELS = new ConcurrentHashMap<>();
+    private static final int MAX_LABELS = 10_000;
+
+    // Wait time accumulated by primitives, so page methods can split their total
+    private static final ThreadLocal<long[]> WAIT_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private ActionMetrics() {
+        // Utility class - no instances
+    }
+
+    // ==================== RECORDING ====================
+
+    /**
+     * Record one BasePage primitive (findElement, click, type...)
+     *
+     * @param target  what the action worked on (a By, a contract name...),
+     *                or null for actions without one
+     */
+    public static void record(String action, Object target, long waitNanos, long commandNanos) {
+        if (!ENABLED) {
+            return;
+        }
+        WAIT_NANOS.get()[0] += waitNanos;
+        store(action, waitNanos, commandNanos);
+        if (target != null) {
+            store(label(action, target), waitNanos, commandNanos);
+        }
+    }
+
+    /**
+     * Time a page-object method such as LoginPage.login()
+     * Wait time is the sum of waits done by the primitives it called
+     */
+    public static <T> T time(String action, Supplier<T> body) {
+        if (!ENABLED) {
+            return body.get();
+        }
+        long[] waits = WAIT_NANOS.get();
+        long waitBefore = waits[0];
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } finally {
+            long total = System.nanoTime() - start;
+            long waited = Math.min(total, waits[0] - waitBefore);
+            store(action, waited, total - waited);
+        }
+    }
+
+    public static void time(String action, Runnable body) {
+        time(action, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Record the XHR/fetch calls one action caused, e.g. LoginPage.clickLoginButton
+     */
+    public static void recordRequests(String action, int requests, int failed) {
+        if (!ENABLED) {
+            return;
+        }
+        SUITE_REQUESTS.computeIfAbsent(action, k -> new RequestStats()).record(requests, failed);
+        TestScope test = CURRENT_TEST.get();
+        if (test != null) {
+            test.requests.computeIfAbsent(action, k -> new RequestStats()).record(requests, failed);
+        }
+    }
+
+    /**
+     * The per-target key of an action, e.g. "click By.id: submit"
+     * Built the first time the pair is seen; later calls are two map lookups
+     */
+    private static String label(String action, Object target) {
+        Map<Object, String> targets = LABELS.get(action);
+        if (targets == null) {
+            targets = LABELS.computeIfAbsent(action, k -> new ConcurrentHashMap<>());
+        }
+        String label = targets.get(target);
+        if (label == null) {
+            label = action + " " + target;
+            if (targets.size() < MAX_LABELS) {
+                targets.putIfAbsent(target, label);
+            }
+        }
+        return label;
+    }
+
+    private static void store(String key, long waitNanos, long commandNanos) {
+        SUITE.computeIfAbsent(key, k -> new ActionStats()).record(waitNanos, commandNanos);
+
+        TestScope test = CURRENT_TEST.get();
+        if (test != null) {
+            test.actions.computeIfAbsent(key, k -> new ActionStats()).record(waitNanos, commandNanos);
+            long budget = BUDGETS.budgetNanos(key);
+            if (budget >= 0 && waitNanos + commandNanos > budget) {
+                test.violations.add(String.format("%s took %.1f ms (budget %d ms)",
+                        key, (waitNanos + commandNanos) / 1e6, budget / 1_000_000));
+            }
+        }
+    }
+
+    /**
+     * Add a violation to this thread's test, failed like an exceeded budget
+     * Real scenario: LocatorProfiler finds a locator over its fail threshold
+     */
+    static void addViolation(String violation) {
+        TestScope test = CURRENT_TEST.get();
+        if (test != null) {
+            test.violations.add(violation);
+        }
+    }
+
+    // ==================== TEST SCOPE ====================
+
+    /**
+     * Start collecting for the test about to run on this thread
+     */
+    public static void beginTest(String testId) {
+        CURRENT_TEST.set(new TestScope(testId));
+    }
+
+    /**
+     * @return what this thread's test recorded so far, or null outside a test
+     */
+    public static TestScope currentTest() {
+        return CURRENT_TEST.get();
+    }
+
+    /**
+     * Stop collecting for this thread's test
+     *
+     * @return what the test recorded, or null if beginTest was not called
+     */
+    public static TestScope endTest() {
+        TestScope test = CURRENT_TEST.get();
+        CURRENT_TEST.remove();
+        return test;
+    }
+
+    // ==================== SUITE REPORT ====================
+
+    /**
+     * Per-action and per-locator percentiles for the whole suite
+     */
+    public static Map<String, Object> suiteReport() {
+        return toReport(SUITE);
+    }
+
+    /**
+     * Per-action XHR/fetch counts for the whole suite
+     */
+    public static Map<String, Object> suiteRequestReport() {
+        return toRequestReport(SUITE_REQUESTS);
+    }
+
+    public static void resetSuite() {
+        SUITE.clear();
+        SUITE_REQUESTS.clear();
+    }
+
+    static Map<String, Object> toReport(Map<String, ActionStats> actions) {
+        Map<String, Object> report = new TreeMap<>();
+        actions.forEach((key, stats) -> report.put(key, stats.toMap()));
+        return report;
+    }
+
+    static Map<String, Object> toRequestReport(Map<String, RequestStats> requests) {
+        Map<String, Object> report = new TreeMap<>();
+        requests.forEach((key, stats) -> report.put(key, stats.toMap()));
+        return report;
+    }
+
+    /**
+     * Everything one test recorded: its action latencies and budget violations
+     */
+    public static final class TestScope {
+
+        private final String testId;
+        private final Map<String, ActionStats> actions = new HashMap<>();
+        private final Map<String, RequestStats> requests = new HashMap<>();
+        private final List<String> violations = new ArrayList<>();
+
+        private TestScope(String testId) {
+            this.testId = testId;
+        }
+
+        public String getTestId() {
+            return testId;
+        }
+
+        public List<String> getBudgetViolations() {
+            return Collections.unmodifiableList(violations);
+        }
+
+        public Map<String, Object> report() {
+            return toReport(actions);
+        }
+
+        public Map<String, Object> requestReport() {
+            return toRequestReport(requests);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.orangehrm.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ActionStats - Latency of one action (or one action + locator)
+ * Split into total time, time spent waiting and time spent in commands
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class ActionStats {
+
+    private final LatencyHistogram total = new LatencyHistogram();
+    private final LatencyHistogram waiting = new LatencyHistogram();
+    private final LatencyHistogram command = new LatencyHistogram();
+
+    void record(long waitNanos, long commandNanos) {
+        total.record(waitNanos + commandNanos);
+        waiting.record(waitNanos);
+        command.record(commandNanos);
+    }
+
+    public LatencyHistogram getTotal() {
+        return total;
+    }
+
+    public LatencyHistogram getWaiting() {
+        return waiting;
+    }
+
+    public LatencyHistogram getCommand() {
+        return command;
+    }
+
+    /**
+     * Machine-readable summary, all times in milliseconds
+     */
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("count", total.getCount());
+        map.put("total", percentiles(total));
+        map.put("wait", percentiles(waiting));
+        map.put("command", percentiles(command));
+        return map;
+    }
+
+    private static Map<String, Object> percentiles(LatencyHistogram histogram) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("p50", millis(histogram.getPercentileNanos(50)));
+        map.put("p95", millis(histogram.getPercentileNanos(95)));
+        map.put("p99", millis(histogram.getPercentileNanos(99)));
+        map.put("max", millis(histogram.getMaxNanos()));
+        map.put("mean", millis((long) histogram.getMeanNanos()));
+        return map;
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
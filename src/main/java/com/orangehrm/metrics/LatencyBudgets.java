@@ -0,0 +1,69 @@
+package com.orangehrm.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * LatencyBudgets - Optional maximum duration per action
+ *
+ * Sources (system properties win):
+ *  - classpath file latency-budgets.properties:  LoginPage.login=4000
+ *  - system properties:  -Dperf.budget.LoginPage.login=4000
+ *
+ * Values are milliseconds. Actions without a budget are never checked.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+final class LatencyBudgets {
+
+    private static final String PREFIX = "perf.budget.";
+    private static final String FILE = "/latency-budgets.properties";
+
+    private final Map<String, Long> budgetNanos;
+
+    private LatencyBudgets(Map<String, Long> budgetNanos) {
+        this.budgetNanos = Collections.unmodifiableMap(budgetNanos);
+    }
+
+    static LatencyBudgets load() {
+        Map<String, Long> budgets = new HashMap<>();
+        try (InputStream in = LatencyBudgets.class.getResourceAsStream(FILE)) {
+            if (in != null) {
+                Properties file = new Properties();
+                file.load(in);
+                file.stringPropertyNames().forEach(action -> put(budgets, action, file.getProperty(action)));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + FILE, e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(key -> key.startsWith(PREFIX))
+                .forEach(key -> put(budgets, key.substring(PREFIX.length()), System.getProperty(key)));
+        return new LatencyBudgets(budgets);
+    }
+
+    /**
+     * @return budget in nanoseconds, or -1 if the action has none
+     */
+    long budgetNanos(String action) {
+        Long budget = budgetNanos.get(action);
+        return budget == null ? -1 : budget;
+    }
+
+    boolean isEmpty() {
+        return budgetNanos.isEmpty();
+    }
+
+    private static void put(Map<String, Long> budgets, String action, String millis) {
+        try {
+            budgets.put(action.trim(), Long.parseLong(millis.trim()) * 1_000_000L);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Latency budget for '" + action + "' must be millis: " + millis, e);
+        }
+    }
+}
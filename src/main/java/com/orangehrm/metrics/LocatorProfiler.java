@@ -0,0 +1,230 @@
+package com.orangehrm.metrics;
+
+import com.orangehrm.config.FrameworkConfig;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * LocatorProfiler - Which locators make the browser work hardest?
+ *
+ * Real-World Context:
+ *  - //span[text()='Admin'] walks every node of the page and compares its text
+ *  - One lookup is cheap, but page objects repeat it in every test
+ *  - A selector that matches 12 nodes "works" until the order of the page changes
+ *
+ * What is recorded per locator (-Dlocator.profile.enabled=true):
+ *  - uses        : every BasePage primitive that used it
+ *  - lookups     : uses that went to the browser (not served by the element cache)
+ *  - resolution  : time the page itself needs to resolve it, measured in the
+ *                  browser (no WebDriver round trip), on the first
+ *                  locator.profile.samples lookups
+ *  - matches     : most nodes it matched, and the DOM size at that moment
+ *
+ * Flags:
+ *  - FULL_DOCUMENT_XPATH : XPath starting with // - scans the whole document
+ *  - TEXT_MATCH          : compares text (text(), contains(., ...), link text)
+ *  - MULTI_MATCH         : matched more than one node - the first one wins
+ *
+ * Ranking: mean resolution time x lookups, the browser time the suite
+ * spent on the locator. Written by MetricsListener to target/metrics/locators.json.
+ *
+ * Fail threshold (-Dlocator.failThresholdMs=0.5): a resolution slower than
+ * that becomes a violation of the running test, failed like a latency budget.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class LocatorProfiler {
+
+    private static final boolean ENABLED = FrameworkConfig.getBoolean("locator.profile.enabled", false);
+    private static final int SAMPLES = Math.max(1, FrameworkConfig.getInt("locator.profile.samples", 10));
+    private static final double FAIL_THRESHOLD_MICROS = FrameworkConfig.getDouble("locator.failThresholdMs", 0) * 1000;
+
+    private static final Pattern TEXT_MATCH = Pattern.compile(
+            "text\\(\\)|normalize-space\\(\\s*\\.?\\s*\\)|(contains|starts-with)\\(\\s*\\.\\s*,|\\[\\s*\\.\\s*=");
+
+    private static final Map<String, LocatorStats> SUITE = new ConcurrentHashMap<>();
+
+    /**
+     * What makes a locator suspicious, independent of how fast it was this time
+     */
+    public enum Flag {
+        FULL_DOCUMENT_XPATH,
+        TEXT_MATCH,
+        MULTI_MATCH
+    }
+
+    private LocatorProfiler() {
+        // Utility class - no instances
+    }
+
+    // ==================== RECORDING ====================
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Count one use of a locator
+     *
+     * @param lookup true if the browser resolved it, false for an element cache hit
+     */
+    public static void recordUse(String locator, boolean lookup) {
+        stats(locator).recordUse(lookup);
+    }
+
+    /**
+     * Reserve one of the locator's samples
+     *
+     * @return false once it has been measured locator.profile.samples times
+     */
+    public static boolean claimSample(String locator) {
+        return stats(locator).claimSample();
+    }
+
+    /**
+     * Record one in-browser resolution of a locator
+     *
+     * @param using   W3C strategy ("css selector", "xpath", "link text"...)
+     * @param value   the selector itself
+     * @param micros  time the page took to resolve it
+     * @param matches nodes it matched
+     * @param domSize elements in the page at that moment
+     */
+    public static void recordResolution(String locator, String using, String value,
+                                        double micros, int matches, int domSize) {
+        stats(locator).recordResolution(using, value, micros, matches, domSize);
+        if (FAIL_THRESHOLD_MICROS > 0 && micros > FAIL_THRESHOLD_MICROS) {
+            ActionMetrics.addViolation(String.format(Locale.ROOT,
+                    "locator %s resolved in %.3f ms (threshold %.3f ms, %d matches, %d elements)",
+                    locator, micros / 1000, FAIL_THRESHOLD_MICROS / 1000, matches, domSize));
+        }
+    }
+
+    private static LocatorStats stats(String locator) {
+        return SUITE.computeIfAbsent(locator, k -> new LocatorStats());
+    }
+
+    // ==================== SUITE REPORT ====================
+
+    /**
+     * Every locator, most expensive first
+     */
+    public static List<Map<String, Object>> ranking() {
+        List<Map<String, Object>> ranking = new ArrayList<>();
+        SUITE.forEach((locator, stats) -> ranking.add(stats.toMap(locator)));
+        ranking.sort(Comparator.comparingDouble((Map<String, Object> entry) -> (Double) entry.get("costMillis"))
+                .reversed());
+        return ranking;
+    }
+
+    public static Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("samplesPerLocator", SAMPLES);
+        settings.put("failThresholdMs", FAIL_THRESHOLD_MICROS > 0 ? FAIL_THRESHOLD_MICROS / 1000 : null);
+        return settings;
+    }
+
+    public static void resetSuite() {
+        SUITE.clear();
+    }
+
+    /**
+     * Flags that follow from the selector alone
+     */
+    static Set<Flag> staticFlags(String using, String value) {
+        Set<Flag> flags = EnumSet.noneOf(Flag.class);
+        if ("xpath".equals(using)) {
+            String path = value.trim();
+            while (path.startsWith("(")) {
+                path = path.substring(1).trim();
+            }
+            if (path.startsWith("//") || path.startsWith(".//")) {
+                flags.add(Flag.FULL_DOCUMENT_XPATH);
+            }
+            if (TEXT_MATCH.matcher(value).find()) {
+                flags.add(Flag.TEXT_MATCH);
+            }
+        } else if ("link text".equals(using) || "partial link text".equals(using)) {
+            flags.add(Flag.TEXT_MATCH);
+        }
+        return flags;
+    }
+
+    /**
+     * Everything known about one locator - shared by all threads
+     */
+    private static final class LocatorStats {
+
+        private final Set<Flag> flags = EnumSet.noneOf(Flag.class);
+        private long uses;
+        private long lookups;
+        private int samplesClaimed;
+        private int samples;
+        private double totalMicros;
+        private double maxMicros;
+        private int maxMatches;
+        private int domSizeAtMax;
+
+        synchronized void recordUse(boolean lookup) {
+            uses++;
+            if (lookup) {
+                lookups++;
+            }
+        }
+
+        synchronized boolean claimSample() {
+            if (samplesClaimed >= SAMPLES) {
+                return false;
+            }
+            samplesClaimed++;
+            return true;
+        }
+
+        synchronized void recordResolution(String using, String value, double micros, int matches, int domSize) {
+            if (samples == 0) {
+                flags.addAll(staticFlags(using, value));
+            }
+            samples++;
+            totalMicros += micros;
+            if (micros > maxMicros) {
+                maxMicros = micros;
+                domSizeAtMax = domSize;
+            }
+            maxMatches = Math.max(maxMatches, matches);
+            if (matches > 1) {
+                flags.add(Flag.MULTI_MATCH);
+            }
+        }
+
+        synchronized Map<String, Object> toMap(String locator) {
+            double meanMicros = samples == 0 ? 0 : totalMicros / samples;
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("locator", locator);
+            map.put("costMillis", round(meanMicros * lookups / 1000));
+            map.put("uses", uses);
+            map.put("lookups", lookups);
+            map.put("samples", samples);
+            map.put("meanMillis", round(meanMicros / 1000));
+            map.put("maxMillis", round(maxMicros / 1000));
+            map.put("maxMatches", maxMatches);
+            map.put("domSizeAtMax", domSizeAtMax);
+            List<String> flagNames = new ArrayList<>();
+            flags.forEach(flag -> flagNames.add(flag.name()));
+            map.put("flags", flagNames);
+            return map;
+        }
+
+        private static double round(double millis) {
+            return Math.round(millis * 1000) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.orangehrm.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RequestStats - XHR/fetch calls the application made during one action
+ * Filled from the in-page network tracker, one sample per idle wait
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class RequestStats {
+
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAccumulator maxRequests = new LongAccumulator(Math::max, 0);
+
+    void record(int requestCount, int failedCount) {
+        samples.increment();
+        requests.add(requestCount);
+        failed.add(failedCount);
+        maxRequests.accumulate(requestCount);
+    }
+
+    /**
+     * Machine-readable summary
+     */
+    Map<String, Object> toMap() {
+        long count = samples.sum();
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("count", count);
+        map.put("requests", requests.sum());
+        map.put("failed", failed.sum());
+        map.put("meanRequests", count == 0 ? 0 : Math.round(requests.sum() * 10.0 / count) / 10.0);
+        map.put("maxRequests", maxRequests.get());
+        return map;
+    }
+}
@@ -0,0 +1,169 @@
+package com.orangehrm.network;
+
+import com.orangehrm.base.Scripts;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * ActivityTracker - Knows when the application's own network has settled
+ *
+ * Real-World Context:
+ *  - OrangeHRM renders with Vue: the header exists long before the widgets
+ *    have fetched their data, and a button can exist while its XHR still runs
+ *  - Element polling either waits too long (fixed sleeps, long timeouts)
+ *    or too short (element found, data not there yet)
+ *  - The page itself knows: count its in-flight XHR/fetch calls
+ *
+ * How it works:
+ *  - network-tracker.js wraps XMLHttpRequest, fetch and history.pushState
+ *  - install() registers it with DevTools (Page.addScriptToEvaluateOnNewDocument),
+ *    so it runs before the application's scripts on every document
+ *  - awaitIdle() runs network-idle.js: one asynchronous script that answers
+ *    once nothing was in flight for the quiet period
+ *
+ * Without DevTools (e.g. a remote grid) the tracker is injected on first use:
+ * it then only sees requests started after that moment.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class ActivityTracker {
+
+    private static final Logger LOG = LogManager.getLogger(ActivityTracker.class);
+
+    // W3C default script timeout, assumed when the driver does not report its own
+    private static final Duration DEFAULT_SCRIPT_TIMEOUT = Duration.ofSeconds(30);
+    // Left between a slice's end and the script timeout for the answer to arrive
+    private static final long SCRIPT_MARGIN_MILLIS = 1000;
+    private static final long UNLOAD_RETRY_PAUSE_MILLIS = 50;
+
+    private ActivityTracker() {
+        // Utility class - no instances
+    }
+
+    /**
+     * Run the tracker on every document this browser opens from now on
+     * Never fails the launch: awaitIdle() falls back to late injection
+     */
+    public static void install(WebDriver driver) {
+        if (!(driver instanceof HasCdp)) {
+            return;
+        }
+        try {
+            ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Collections.singletonMap("source", Scripts.load("network-tracker.js")));
+        } catch (RuntimeException e) {
+            LOG.warn("Network tracker not installed, injecting per page instead: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Wait until no XHR/fetch was in flight and no navigation happened for quietPeriod
+     * Long timeouts are waited in slices below the session's script timeout;
+     * a navigation during a slice ("document unloaded") is waited out on the
+     * next page, any other script error is thrown
+     *
+     * Real scenario: the dashboard widgets finished loading after a login
+     *
+     * @return what happened since the previous call; isIdle() is false on timeout
+     */
+    @SuppressWarnings("unchecked")
+    public static NetworkActivity awaitIdle(WebDriver driver, Duration quietPeriod, Duration timeout) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        String script = Scripts.load("network-idle.js");
+        long sliceMillis = maxScriptMillis(driver);
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        int requests = 0;
+        int failed = 0;
+        int routeChanges = 0;
+        while (true) {
+            long remainingMillis = Math.max(0, (deadline - System.nanoTime()) / 1_000_000);
+            Map<String, Object> state;
+            try {
+                state = (Map<String, Object>) js.executeAsyncScript(script, quietPeriod.toMillis(),
+                        Math.min(remainingMillis, sliceMillis));
+            } catch (JavascriptException e) {
+                if (!isUnload(e)) {
+                    throw e;
+                }
+                if (System.nanoTime() >= deadline || !pause()) {
+                    return new NetworkActivity(false, null, requests, failed, routeChanges, 0,
+                            System.nanoTime() - start);
+                }
+                continue;
+            }
+            if (!Boolean.TRUE.equals(state.get("installed"))) {
+                js.executeScript(Scripts.load("network-tracker.js"));
+                continue;
+            }
+            requests += intValue(state, "requests");
+            failed += intValue(state, "failed");
+            routeChanges += intValue(state, "routeChanges");
+            boolean idle = Boolean.TRUE.equals(state.get("idle"));
+            if (!idle && System.nanoTime() < deadline) {
+                // Only this slice ended - keep waiting
+                continue;
+            }
+            return new NetworkActivity(idle,
+                    (String) state.get("url"),
+                    requests,
+                    failed,
+                    routeChanges,
+                    intValue(state, "inFlight"),
+                    System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Longest single network-idle.js call: the session's script timeout less a margin
+     * for the answer to travel back, so the driver never aborts it first
+     */
+    private static long maxScriptMillis(WebDriver driver) {
+        Duration scriptTimeout;
+        try {
+            scriptTimeout = driver.manage().timeouts().getScriptTimeout();
+        } catch (RuntimeException e) {
+            scriptTimeout = null;
+        }
+        if (scriptTimeout == null || scriptTimeout.isZero() || scriptTimeout.isNegative()) {
+            // Unknown: the W3C default
+            scriptTimeout = DEFAULT_SCRIPT_TIMEOUT;
+        }
+        long millis = scriptTimeout.toMillis();
+        return millis > 2 * SCRIPT_MARGIN_MILLIS ? millis - SCRIPT_MARGIN_MILLIS : Math.max(1, millis / 2);
+    }
+
+    /**
+     * "document unloaded while waiting for result": the page navigated mid-script
+     */
+    private static boolean isUnload(JavascriptException e) {
+        return e.getMessage() != null && e.getMessage().contains("document unloaded");
+    }
+
+    /**
+     * Give the next document a moment to start before asking again
+     *
+     * @return false if the thread was interrupted
+     */
+    private static boolean pause() {
+        try {
+            Thread.sleep(UNLOAD_RETRY_PAUSE_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static int intValue(Map<String, Object> state, String key) {
+        return ((Number) state.get(key)).intValue();
+    }
+}
@@ -0,0 +1,23 @@
+package com.orangehrm.network;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * FullPageLoad - Opt a test out of the network blocking profile
+ * Use on tests that need visual fidelity (images, fonts) to be meaningful
+ *
+ * Example:
+ *   @FullPageLoad
+ *   @Test
+ *   public void testCompanyLogoDisplayed() { ... }
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface FullPageLoad {
+}
@@ -0,0 +1,74 @@
+package com.orangehrm.network;
+
+/**
+ * NetworkActivity - What the application's own network did since the last idle wait
+ *
+ * Counted by the in-page tracker (XHR and fetch calls, client-side route
+ * changes), so it covers what one page action triggered. A full navigation
+ * starts a new document: only the new page's calls are counted then.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class NetworkActivity {
+
+    private final boolean idle;
+    private final String url;
+    private final int requests;
+    private final int failed;
+    private final int routeChanges;
+    private final int inFlight;
+    private final long waitedNanos;
+
+    NetworkActivity(boolean idle, String url, int requests, int failed,
+                    int routeChanges, int inFlight, long waitedNanos) {
+        this.idle = idle;
+        this.url = url;
+        this.requests = requests;
+        this.failed = failed;
+        this.routeChanges = routeChanges;
+        this.inFlight = inFlight;
+        this.waitedNanos = waitedNanos;
+    }
+
+    /**
+     * @return false if the timeout expired with requests still in flight
+     */
+    public boolean isIdle() {
+        return idle;
+    }
+
+    /**
+     * URL of the page that went idle
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    public int getRequests() {
+        return requests;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public int getRouteChanges() {
+        return routeChanges;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public long getWaitedNanos() {
+        return waitedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return (idle ? "idle" : "still busy (" + inFlight + " in flight)")
+                + " after " + waitedNanos / 1_000_000 + " ms: " + requests + " requests, "
+                + failed + " failed, " + routeChanges + " route changes";
+    }
+}
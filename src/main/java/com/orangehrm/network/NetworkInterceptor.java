@@ -0,0 +1,171 @@
+package com.orangehrm.network;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NetworkInterceptor - Applies a NetworkProfile to one Chrome session
+ *
+ * How it works (Chrome DevTools Protocol, version independent commands):
+ *  - Fetch.enable with the profile's patterns: only images/fonts/analytics
+ *    are paused, everything else loads untouched
+ *  - Each paused request is failed (BlockedByClient) unless allow-listed
+ *  - Network events count what actually loaded, for the per-test report
+ *
+ * One interceptor per browser, looked up with forDriver(). Blocking can be
+ * switched off per test for visual checks without restarting the browser.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class NetworkInterceptor {
+
+    private static final Logger LOG = LogManager.getLogger(NetworkInterceptor.class);
+
+    private static final Map<WebDriver, NetworkInterceptor> INTERCEPTORS = new ConcurrentHashMap<>();
+
+    private final DevTools devTools;
+    private final NetworkProfile profile;
+
+    private final AtomicLong requestsLoaded = new AtomicLong();
+    private final AtomicLong bytesLoaded = new AtomicLong();
+    private final AtomicLong requestsBlocked = new AtomicLong();
+    private final Map<String, AtomicLong> blockedByType = new ConcurrentHashMap<>();
+
+    private volatile boolean blocking;
+
+    private NetworkInterceptor(DevTools devTools, NetworkProfile profile) {
+        this.devTools = devTools;
+        this.profile = profile;
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * Attach a profile to a freshly launched browser
+     * Never fails the launch: without DevTools the browser just loads everything
+     */
+    public static void attach(WebDriver driver, NetworkProfile profile) {
+        if (!(driver instanceof HasDevTools) || profile.isEmpty()) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            NetworkInterceptor interceptor = new NetworkInterceptor(devTools, profile);
+            interceptor.listen();
+            interceptor.setBlocking(true);
+            INTERCEPTORS.put(driver, interceptor);
+        } catch (RuntimeException e) {
+            LOG.warn("Network profile not applied: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return the interceptor of this browser, or null if none is attached
+     */
+    public static NetworkInterceptor forDriver(WebDriver driver) {
+        return INTERCEPTORS.get(driver);
+    }
+
+    /**
+     * Forget a browser that is about to quit
+     */
+    public static void detach(WebDriver driver) {
+        NetworkInterceptor interceptor = INTERCEPTORS.remove(driver);
+        if (interceptor != null) {
+            try {
+                interceptor.devTools.close();
+            } catch (RuntimeException e) {
+                // Browser already gone
+            }
+        }
+    }
+
+    // ==================== PER-TEST CONTROL ====================
+
+    /**
+     * Turn blocking on (functional tests) or off (visual fidelity tests)
+     */
+    public void setBlocking(boolean enabled) {
+        if (enabled == blocking) {
+            return;
+        }
+        if (enabled) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("patterns", profile.interceptPatterns());
+            devTools.send(new Command<Void>("Fetch.enable", params));
+        } else {
+            devTools.send(new Command<Void>("Fetch.disable", Collections.emptyMap()));
+        }
+        blocking = enabled;
+    }
+
+    public boolean isBlocking() {
+        return blocking;
+    }
+
+    /**
+     * Start counting from zero - called when a test begins
+     */
+    public void resetStats() {
+        requestsLoaded.set(0);
+        bytesLoaded.set(0);
+        requestsBlocked.set(0);
+        blockedByType.clear();
+    }
+
+    public NetworkStats getStats() {
+        Map<String, Long> byType = new HashMap<>();
+        blockedByType.forEach((type, count) -> byType.put(type, count.get()));
+        return new NetworkStats(requestsLoaded.get(), bytesLoaded.get(),
+                requestsBlocked.get(), byType);
+    }
+
+    // ==================== DEVTOOLS EVENTS ====================
+
+    private void listen() {
+        devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+        devTools.addListener(event("Fetch.requestPaused"), this::onRequestPaused);
+        devTools.addListener(event("Network.loadingFinished"), this::onLoadingFinished);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onRequestPaused(Map<String, Object> params) {
+        String requestId = (String) params.get("requestId");
+        String url = String.valueOf(((Map<String, Object>) params.get("request")).get("url"));
+
+        Map<String, Object> reply = new HashMap<>();
+        reply.put("requestId", requestId);
+        if (!blocking || profile.isAllowed(url)) {
+            devTools.send(new Command<Void>("Fetch.continueRequest", reply));
+            return;
+        }
+        reply.put("errorReason", "BlockedByClient");
+        devTools.send(new Command<Void>("Fetch.failRequest", reply));
+
+        requestsBlocked.incrementAndGet();
+        blockedByType.computeIfAbsent(String.valueOf(params.get("resourceType")), type -> new AtomicLong())
+                .incrementAndGet();
+    }
+
+    private void onLoadingFinished(Map<String, Object> params) {
+        requestsLoaded.incrementAndGet();
+        bytesLoaded.addAndGet(((Number) params.get("encodedDataLength")).longValue());
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
@@ -0,0 +1,115 @@
+package com.orangehrm.network;
+
+import com.orangehrm.config.FrameworkConfig;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * NetworkProfile - Which requests a functional test run may skip
+ *
+ * Real-World Context:
+ *  - Login/dashboard tests need the DOM and the app's XHRs, nothing else
+ *  - Images, web fonts and analytics still cost bandwidth and load time
+ *  - A profile lists what to block (by resource type or URL pattern)
+ *    and what must always load (allow list wins over every block rule)
+ *
+ * URL patterns use * as wildcard, e.g. "*google-analytics.com*"
+ * Resource types use Chrome DevTools names: Image, Font, Media, Stylesheet...
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class NetworkProfile {
+
+    private static final String DEFAULT_TYPES = "Image,Font,Media";
+    private static final String DEFAULT_DENY = "*google-analytics.com*,*googletagmanager.com*,"
+            + "*doubleclick.net*,*connect.facebook.net*,*hotjar.com*";
+
+    private final Set<String> blockedTypes;
+    private final List<String> denyUrls;
+    private final List<Pattern> allowUrls;
+
+    public NetworkProfile(Set<String> blockedTypes, List<String> denyUrls, List<String> allowUrls) {
+        this.blockedTypes = Collections.unmodifiableSet(new LinkedHashSet<>(blockedTypes));
+        this.denyUrls = Collections.unmodifiableList(new ArrayList<>(denyUrls));
+        this.allowUrls = allowUrls.stream().map(NetworkProfile::globToRegex).collect(Collectors.toList());
+    }
+
+    /**
+     * Build the profile from -Dnetwork.block.types / .urls and -Dnetwork.allow.urls
+     */
+    public static NetworkProfile fromConfig() {
+        return new NetworkProfile(
+                new LinkedHashSet<>(split(FrameworkConfig.getString("network.block.types", DEFAULT_TYPES))),
+                split(FrameworkConfig.getString("network.block.urls", DEFAULT_DENY)),
+                split(FrameworkConfig.getString("network.allow.urls", "")));
+    }
+
+    /**
+     * Request patterns for the DevTools Fetch domain
+     * Only requests matching one of them are paused and inspected,
+     * documents and XHRs never leave the browser's fast path
+     */
+    List<Map<String, Object>> interceptPatterns() {
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String type : blockedTypes) {
+            patterns.add(pattern("*", type));
+        }
+        for (String url : denyUrls) {
+            patterns.add(pattern(url, null));
+        }
+        return patterns;
+    }
+
+    /**
+     * @return true if the URL is on the allow list and must load anyway
+     */
+    boolean isAllowed(String url) {
+        for (Pattern allow : allowUrls) {
+            if (allow.matcher(url).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isEmpty() {
+        return blockedTypes.isEmpty() && denyUrls.isEmpty();
+    }
+
+    private static Map<String, Object> pattern(String urlPattern, String resourceType) {
+        Map<String, Object> pattern = new HashMap<>();
+        pattern.put("urlPattern", urlPattern);
+        pattern.put("requestStage", "Request");
+        if (resourceType != null) {
+            pattern.put("resourceType", resourceType);
+        }
+        return pattern;
+    }
+
+    private static Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : glob.split("\\*", -1)) {
+            if (regex.length() > 0) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
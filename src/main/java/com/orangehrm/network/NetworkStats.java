@@ -0,0 +1,52 @@
+package com.orangehrm.network;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * NetworkStats - What the browser loaded and what we blocked during one test
+ *
+ * Blocked requests are failed before they reach the server, so their size
+ * is never known; they are reported as a count per resource type only.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class NetworkStats {
+
+    private final long requestsLoaded;
+    private final long bytesLoaded;
+    private final long requestsBlocked;
+    private final Map<String, Long> blockedByType;
+
+    NetworkStats(long requestsLoaded, long bytesLoaded, long requestsBlocked,
+                 Map<String, Long> blockedByType) {
+        this.requestsLoaded = requestsLoaded;
+        this.bytesLoaded = bytesLoaded;
+        this.requestsBlocked = requestsBlocked;
+        this.blockedByType = Collections.unmodifiableMap(new TreeMap<>(blockedByType));
+    }
+
+    public long getRequestsLoaded() {
+        return requestsLoaded;
+    }
+
+    public long getBytesLoaded() {
+        return bytesLoaded;
+    }
+
+    public long getRequestsBlocked() {
+        return requestsBlocked;
+    }
+
+    public Map<String, Long> getBlockedByType() {
+        return blockedByType;
+    }
+
+    @Override
+    public String toString() {
+        return requestsBlocked + " requests blocked " + blockedByType + ", "
+                + requestsLoaded + " requests / " + bytesLoaded / 1024 + " KB loaded";
+    }
+}
@@ -1,11 +1,19 @@
 package com.orangehrm.pages;
 
 import com.orangehrm.base.BasePage;
+import com.orangehrm.base.PageContract;
+import com.orangehrm.base.PageSnapshot;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class DashboardPage extends BasePage {
 
+    // Path of the dashboard, relative to the application's base URL
+    public static final String PATH = "web/index.php/dashboard/index";
+
     // ==================== LOCATORS ====================
 
     private final By dashboardHeader = By.cssSelector("h6.oxd-text--h6");
@@ -18,25 +26,105 @@ public class DashboardPage extends BasePage {
     private final By timeMenu = By.xpath("//span[text()='Time']");
     private final By recruitmentMenu = By.xpath("//span[text()='Recruitment']");
 
+    // Sidebar menus by name - checked together in one snapshot
+    private final Map<String, By> mainMenus = new LinkedHashMap<>();
+
+    // ==================== READINESS CONTRACTS ====================
+    // Every module shares the application shell: header and user menu
+
+    private final PageContract contract =
+            new PageContract("DashboardPage", "/dashboard/index", dashboardHeader, userDropdown);
+    private final PageContract adminPage =
+            new PageContract("AdminPage", "/admin/viewSystemUsers", dashboardHeader, userDropdown);
+    private final PageContract pimPage =
+            new PageContract("PIMPage", "/pim/viewEmployeeList", dashboardHeader, userDropdown);
+    private final PageContract leavePage =
+            new PageContract("LeavePage", "/leave/viewLeaveList", dashboardHeader, userDropdown);
+
     // ==================== CONSTRUCTOR ====================
 
     public DashboardPage(WebDriver driver) {
         super(driver);
+        mainMenus.put("Admin", adminMenu);
+        mainMenus.put("PIM", pimMenu);
+        mainMenus.put("Leave", leaveMenu);
+        mainMenus.put("Time", timeMenu);
+        mainMenus.put("Recruitment", recruitmentMenu);
+    }
+
+    @Override
+    protected PageContract contract() {
+        return contract;
+    }
+
+    /**
+     * Key elements for snapshot(): header, user dropdown and all main menus
+     */
+    @Override
+    protected Map<String, By> keyElements() {
+        Map<String, By> elements = new LinkedHashMap<>();
+        elements.put("header", dashboardHeader);
+        elements.put("userDropdown", userDropdown);
+        elements.putAll(mainMenus);
+        return elements;
     }
 
     // ==================== VALIDATION METHODS ====================
 
     /**
      * Verify dashboard Loaded successfully
-     * checks if dashboard header is displayed
+     * Waits for its contract: dashboard URL, header and user menu visible, no spinner
      *
      * @return true if dashboard loaded, false otherwise
      * Real Scenario: Confirm successful login
      */
 
     public boolean isDashboardDisplayed() {
-        waitForUrl("dashboard");
-        return isDisplayed(dashboardHeader);
+        return timed("DashboardPage.isDashboardDisplayed", () -> isReady());
+    }
+
+    /**
+     * Assert that a login expected to succeed reached the dashboard
+     * A login that settled on the login form (wrong credentials, error
+     * message) fails with an AssertionError, which is never retried.
+     * Only a dashboard still loading fails with the TimeoutException,
+     * retried as transient
+     *
+     * Real Scenario: Valid login must open the dashboard
+     */
+
+    public void assertLoggedIn() {
+        try {
+            awaitReady();
+        } catch (TimeoutException e) {
+            String failure = new LoginPage(driver).getLoginFailure();
+            if (failure != null) {
+                throw new AssertionError("Login failed, dashboard not displayed: " + failure, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Check whether the browser is on an authenticated page
+     * Logged-out users are redirected straight back to the login screen
+     * Waits only while the URL is neither (page.load.strategy=none returns mid-navigation)
+     *
+     * @return true if the current URL is the dashboard
+     * Real Scenario: Detect an expired session after injecting cookies
+     */
+
+    public boolean isSessionActive() {
+        checkThread();
+        try {
+            String url = waits.until(d -> {
+                String current = d.getCurrentUrl();
+                return current.contains("dashboard") || current.contains("auth/login") ? current : null;
+            }, waits.getDefaultTimeout());
+            return !url.contains("auth/login");
+        } catch (TimeoutException e) {
+            return false;
+        }
     }
 
     /**
@@ -49,6 +137,43 @@ public class DashboardPage extends BasePage {
         return getText(dashboardHeader);
     }
 
+    /**
+     * Verify every main menu is visible
+     * All five menus are read in ONE script call per poll
+     *
+     * @return true if Admin, PIM, Leave, Time and Recruitment are all visible
+     * Real Scenario: Admin user must see the full navigation
+     */
+
+    public boolean areMainMenusDisplayed() {
+        try {
+            awaitMainMenus();
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Same as areMainMenusDisplayed(), failing with a TimeoutException
+     * Use it where the menus are expected: a slow render is then retried
+     * as transient instead of failing as an assertion
+     */
+
+    public void awaitMainMenus() {
+        waits.until(d -> snapshot(mainMenus).allVisible() ? Boolean.TRUE : null, waits.getDefaultTimeout());
+    }
+
+    /**
+     * State of every main menu, from one script call
+     *
+     * @return snapshot keyed by menu name
+     */
+
+    public PageSnapshot getMainMenuSnapshot() {
+        return snapshot(mainMenus);
+    }
+
     /**
      * Click Admin Menu
      *
@@ -57,8 +182,8 @@ public class DashboardPage extends BasePage {
      */
 
     public void clickAdminMenu() {
-        click(adminMenu);
-        System.out.println("   ➤ Clicked Admin menu");
+        timed("DashboardPage.clickAdminMenu", () -> navigate(adminMenu, adminPage));
+        log.info("Clicked Admin menu");
     }
 
     /**
@@ -68,8 +193,8 @@ public class DashboardPage extends BasePage {
      */
 
     public void clickPIMMenu(){
-        click(pimMenu);
-        System.out.println("   ➤ Clicked PIM menu");
+        timed("DashboardPage.clickPIMMenu", () -> navigate(pimMenu, pimPage));
+        log.info("Clicked PIM menu");
     }
 
 
@@ -80,8 +205,19 @@ public class DashboardPage extends BasePage {
      */
 
     public void clickLeaveMenu() {
-        click(leaveMenu);
-        System.out.println("   ➤ Clicked Leave menu");
+        timed("DashboardPage.clickLeaveMenu", () -> navigate(leaveMenu, leavePage));
+        log.info("Clicked Leave menu");
+    }
+
+    /**
+     * Click a menu and wait until the module page it opens is usable:
+     * its API calls settled, then its contract met
+     * Not ready in time fails with a TimeoutException naming what was missing
+     */
+    private void navigate(By menu, PageContract target) {
+        click(menu);
+        waitForNetworkIdle("DashboardPage.open" + target.getName());
+        awaitReady(target, waits.getDefaultTimeout());
     }
 
     // ==================== LOGOUT FUNCTIONALITY ====================
@@ -97,17 +233,19 @@ public class DashboardPage extends BasePage {
      */
 
     public LoginPage logout(){
-        System.out.println("   ➤ Performing logout...");
+        return timed("DashboardPage.logout", () -> {
+            log.info("Performing logout");
 
-        // Click user dropdown
-        click(userDropdown);
+            // Click user dropdown
+            click(userDropdown);
 
-        // Click logout
-        click(logoutLink);
+            // Click logout
+            click(logoutLink);
 
-        System.out.println("   ➤ Clicked logout link");
+            log.debug("Clicked logout link");
 
-        // After logout, user is on login page
-        return new LoginPage(driver);
+            // After logout, user is on login page
+            return new LoginPage(driver);
+        });
     }
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.orangehrm.pages;
 
 import com.orangehrm.base.BasePage;
+import com.orangehrm.base.PageContract;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import java.time.Duration;
 
 /**
  * LoginPage - Page Object for OrangeHRM Login Page
@@ -30,11 +32,20 @@ public class LoginPage extends BasePage {
     private final By errorMessage = By.cssSelector("p.oxd-alert-content-text");
     private final By requiredFieldMessage = By.cssSelector("span.oxd-input-field-error-message");
 
+    // Ready once the form can be filled in and submitted
+    private final PageContract contract =
+            new PageContract("LoginPage", "/auth/login", usernameField, passwordField, loginButton);
+
     // ==================== CONSTRUCTOR ====================
     public LoginPage (WebDriver driver) {
         super(driver); // call BasePage Constructor
     }
 
+    @Override
+    protected PageContract contract() {
+        return contract;
+    }
+
     // ==================== PAGE ACTIONS ====================
 
     /**
@@ -45,8 +56,8 @@ public class LoginPage extends BasePage {
      */
 
     public void enterUsername(String username) {
-         type(usernameField, username);
-        System.out.println("   ➤ Entered username: " + username);
+        timed("LoginPage.enterUsername", () -> type(usernameField, username));
+        log.debug("Entered username: {}", username);
     }
 
     /**
@@ -57,18 +68,22 @@ public class LoginPage extends BasePage {
      */
 
     public void enterPassword(String password) {
-        type(passwordField, password);
-        System.out.println("   ➤ Entered password");
+        timed("LoginPage.enterPassword", () -> type(passwordField, password));
+        log.debug("Entered password");
     }
 
     /**
      * Click login button
+     * Returns once the page it leads to has finished its API calls
      *
      * Real scenario: Submitting login credentials
      */
 
     public void clickLoginButton() {
-        click(loginButton);
+        timed("LoginPage.clickLoginButton", () -> {
+            click(loginButton);
+            waitForNetworkIdle("LoginPage.clickLoginButton");
+        });
     }
 
     /**
@@ -85,14 +100,16 @@ public class LoginPage extends BasePage {
      */
 
     public DashboardPage login(String username, String password) {
-        System.out.println("   ➤ Performing login...");
-        enterUsername(username);
-        enterPassword(password);
-        clickLoginButton();
-
-        // After successful login, user is on Dashboard
-        // So we return DashboardPage object (Page Object chaining)
-        return new DashboardPage(driver);
+        return timed("LoginPage.login", () -> {
+            log.info("Performing login as {}", username);
+            enterUsername(username);
+            enterPassword(password);
+            clickLoginButton();
+
+            // After successful login, user is on Dashboard
+            // So we return DashboardPage object (Page Object chaining)
+            return new DashboardPage(driver);
+        });
     }
 
     // ==================== VALIDATION METHODS ====================
@@ -105,7 +122,7 @@ public class LoginPage extends BasePage {
 
     public String getErrorMessage() {
         String errorText = getText(errorMessage);
-        System.out.println("   ➤ Error message: " + errorText);
+        log.info("Error message: {}", errorText);
         return errorText;
     }
 
@@ -119,6 +136,17 @@ public class LoginPage extends BasePage {
         return isDisplayed(errorMessage);
     }
 
+    /**
+     * Check that NO error message is shown - answers in milliseconds
+     *
+     * @return true if the error is absent
+     * Real scenario: Valid credentials must not show "Invalid credentials"
+     */
+
+    public boolean isErrorMessageAbsent() {
+        return isNotDisplayed(errorMessage);
+    }
+
     /**
      * Get required field validation message
      *
@@ -132,14 +160,32 @@ public class LoginPage extends BasePage {
 
     /**
      * Verify login page is loaded
-     * Checks if username field is displayed
+     * Waits for its contract: login URL, form fields and button visible, no spinner
      *
      * @return true if login page loaded, false otherwise
      * Real scenario: Verify redirect to login after logout
      */
 
     public boolean isLoginPageDisplayed() {
-        return isDisplayed(usernameField);
+        return isReady();
+    }
+
+    /**
+     * Why a login did not leave this page - checked once, no waiting
+     *
+     * @return the error or validation message shown, "still on the login page",
+     *         or null if the browser has moved on
+     * Real scenario: Tell wrong credentials apart from a slow redirect
+     */
+
+    public String getLoginFailure() {
+        if (!isNotDisplayed(errorMessage)) {
+            return "error message \"" + getText(errorMessage) + "\"";
+        }
+        if (!isNotDisplayed(requiredFieldMessage)) {
+            return "validation message \"" + getText(requiredFieldMessage) + "\"";
+        }
+        return isReady(Duration.ZERO) ? "still on the login page" : null;
     }
 
 
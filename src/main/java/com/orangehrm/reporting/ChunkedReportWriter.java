@@ -0,0 +1,269 @@
+package com.orangehrm.reporting;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import org.testng.ITestResult;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * ChunkedReportWriter - Writes the ExtentReports HTML while the suite runs
+ *
+ * Real-World Context:
+ *  - ExtentReports keeps every test in memory and renders them all on flush()
+ *  - A 5,000 test nightly run means a big heap and a long flush at the end
+ *  - Here the report is split into parts of report.chunkSize tests:
+ *    a full part is flushed one last time and dropped from memory
+ *
+ * Output (report.dir, default target/reports):
+ *  - index.html         : every part with its pass/fail/skip counts
+ *  - part-001.html ...  : ExtentReports Spark report of each part
+ *
+ * The open part is also flushed every report.flushEvery tests, so a
+ * crashed or killed run still leaves a readable report.
+ *
+ * All methods are synchronized: tests finish on many threads at once.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class ChunkedReportWriter {
+
+    private final Path reportDir;
+    private final Path logDir;
+    private final String suiteName;
+    private final int chunkSize;
+    private final int flushEvery;
+
+    private final List<Part> parts = new ArrayList<>();
+    private ExtentReports extent;
+    private Part currentPart;
+    private int unflushed;
+
+    /**
+     * @param logDir per-test log files (LogContext routing), linked from each test
+     */
+    public ChunkedReportWriter(Path reportDir, Path logDir, String suiteName, int chunkSize, int flushEvery) {
+        this.reportDir = reportDir;
+        this.logDir = logDir;
+        this.suiteName = suiteName;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.flushEvery = Math.max(1, flushEvery);
+        try {
+            Files.createDirectories(reportDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create report directory " + reportDir, e);
+        }
+    }
+
+    // ==================== WRITING ====================
+
+    /**
+     * Add one finished test to the report
+     *
+     * @param recording its steps, or null if none were recorded
+     */
+    public synchronized void write(ITestResult result, String testId, ReportSteps.Recording recording) {
+        if (extent == null) {
+            openPart();
+        }
+        ExtentTest test = extent.createTest(testId, result.getMethod().getDescription());
+        test.assignCategory(result.getTestClass().getRealClass().getSimpleName());
+        test.getModel().setStartTime(new Date(result.getStartMillis()));
+
+        if (recording != null) {
+            for (ReportStep step : recording.getSteps()) {
+                writeStep(test, step);
+            }
+            if (recording.getDropped() > 0) {
+                test.info(recording.getDropped() + " more steps not shown (report.maxStepsPerTest)");
+            }
+        }
+        Path logFile = logDir.resolve("tests").resolve(testId + ".log");
+        if (Files.exists(logFile)) {
+            test.info("<a href='" + link(logFile) + "'>Test log</a>");
+        }
+
+        switch (result.getStatus()) {
+            case ITestResult.SUCCESS:
+                test.pass("Passed");
+                currentPart.passed++;
+                break;
+            case ITestResult.SKIP:
+                if (result.getThrowable() != null) {
+                    test.skip(result.getThrowable());
+                } else {
+                    test.skip("Skipped");
+                }
+                currentPart.skipped++;
+                break;
+            default:
+                if (result.getThrowable() != null) {
+                    test.fail(result.getThrowable());
+                } else {
+                    test.fail("Failed");
+                }
+                currentPart.failed++;
+                break;
+        }
+        test.getModel().setEndTime(new Date(Math.max(result.getEndMillis(), result.getStartMillis())));
+
+        if (currentPart.total() >= chunkSize) {
+            closePart();
+        } else if (++unflushed >= flushEvery) {
+            extent.flush();
+            unflushed = 0;
+            writeIndex();
+        }
+    }
+
+    /**
+     * Flush the open part and write the final index
+     */
+    public synchronized void close() {
+        if (extent != null) {
+            closePart();
+        }
+        writeIndex();
+    }
+
+    // ==================== PARTS ====================
+
+    private void openPart() {
+        currentPart = new Part(parts.size() + 1);
+        parts.add(currentPart);
+
+        ExtentSparkReporter spark = new ExtentSparkReporter(reportDir.resolve(currentPart.fileName()).toString());
+        spark.config().setDocumentTitle(suiteName);
+        spark.config().setReportName(suiteName + " - part " + currentPart.number);
+
+        extent = new ExtentReports();
+        extent.attachReporter(spark);
+        unflushed = 0;
+    }
+
+    private void closePart() {
+        extent.flush();
+        // Dropping the instance frees every test of this part
+        extent = null;
+        currentPart = null;
+        unflushed = 0;
+        writeIndex();
+    }
+
+    private void writeStep(ExtentTest test, ReportStep step) {
+        switch (step.getKind()) {
+            case ACTION:
+                String duration = step.getDurationNanos() < 0 ? ""
+                        : String.format(Locale.ROOT, " <i>(%.1f ms)</i>", step.getDurationNanos() / 1_000_000.0);
+                test.log(step.isFailed() ? Status.WARNING : Status.INFO,
+                        indent(step.getDepth()) + escape(step.getText()) + duration);
+                break;
+            case ATTACHMENT:
+                String path = link(step.getFile());
+                if (isImage(step.getFile())) {
+                    test.info(escape(step.getText()), MediaEntityBuilder.createScreenCaptureFromPath(path).build());
+                } else {
+                    test.info("<a href='" + path + "'>" + escape(step.getText()) + "</a>");
+                }
+                break;
+            default:
+                test.info(indent(step.getDepth()) + "<b>" + escape(step.getText()) + "</b>");
+                break;
+        }
+    }
+
+    /**
+     * Small static page listing the parts - rewritten atomically after each flush
+     */
+    private void writeIndex() {
+        int passed = 0;
+        int failed = 0;
+        int skipped = 0;
+        StringBuilder rows = new StringBuilder();
+        for (Part part : parts) {
+            passed += part.passed;
+            failed += part.failed;
+            skipped += part.skipped;
+            rows.append("<tr><td><a href='").append(part.fileName()).append("'>Part ").append(part.number)
+                    .append("</a></td><td>").append(part.total())
+                    .append("</td><td>").append(part.passed)
+                    .append("</td><td>").append(part.failed)
+                    .append("</td><td>").append(part.skipped).append("</td></tr>\n");
+        }
+        String html = "<!DOCTYPE html>\n<html><head><meta charset='UTF-8'><title>" + escape(suiteName)
+                + "</title></head><body>\n<h2>" + escape(suiteName) + "</h2>\n"
+                + "<p>Updated " + Instant.now() + " - " + (passed + failed + skipped) + " tests: "
+                + passed + " passed, " + failed + " failed, " + skipped + " skipped</p>\n"
+                + "<table border='1' cellpadding='4'>\n"
+                + "<tr><th>Report</th><th>Tests</th><th>Passed</th><th>Failed</th><th>Skipped</th></tr>\n"
+                + rows + "</table>\n</body></html>\n";
+        try {
+            Path temp = Files.createTempFile(reportDir, "index", ".tmp");
+            Files.write(temp, html.getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, reportDir.resolve("index.html"),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write report index", e);
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private String link(Path file) {
+        return reportDir.toAbsolutePath().normalize()
+                .relativize(file.toAbsolutePath().normalize())
+                .toString().replace('\\', '/');
+    }
+
+    private static boolean isImage(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg");
+    }
+
+    private static String indent(int depth) {
+        StringBuilder indent = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            indent.append("&nbsp;&nbsp;&nbsp;&nbsp;");
+        }
+        return indent.toString();
+    }
+
+    private static String escape(String text) {
+        return text == null ? "" : text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    /**
+     * Counts of one report part - all that is kept once the part is closed
+     */
+    private static final class Part {
+        private final int number;
+        private int passed;
+        private int failed;
+        private int skipped;
+
+        private Part(int number) {
+            this.number = number;
+        }
+
+        private String fileName() {
+            return String.format(Locale.ROOT, "part-%03d.html", number);
+        }
+
+        private int total() {
+            return passed + failed + skipped;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.orangehrm.reporting;
+
+import java.nio.file.Path;
+
+/**
+ * ReportStep - One line of a test in the HTML report
+ * A timed page action, a free-text step, or a file attached from disk
+ *
+ * Only the text and the file PATH are kept: screenshots and page sources
+ * stay on disk, so the report model never holds their bytes.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class ReportStep {
+
+    public enum Kind { ACTION, INFO, ATTACHMENT }
+
+    private final Kind kind;
+    private final String text;
+    private final int depth;
+    private final long startMillis;
+    private final Path file;
+    private long durationNanos = -1;
+    private boolean failed;
+
+    ReportStep(Kind kind, String text, int depth, Path file) {
+        this.kind = kind;
+        this.text = text;
+        this.depth = depth;
+        this.startMillis = System.currentTimeMillis();
+        this.file = file;
+    }
+
+    void finish(long durationNanos, boolean failed) {
+        this.durationNanos = durationNanos;
+        this.failed = failed;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Nesting level: LoginPage.login is 0, the enterUsername inside it is 1
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * @return null for attachments and free-text steps
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return -1 when the step is not an action or never finished
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+}
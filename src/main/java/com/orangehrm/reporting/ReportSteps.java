@@ -0,0 +1,134 @@
+package com.orangehrm.reporting;
+
+import com.orangehrm.config.FrameworkConfig;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ReportSteps - Collects the steps of the test running on this thread
+ *
+ * Real-World Context:
+ *  - A failed test report that only says "expected true but was false"
+ *    sends someone to rerun it locally
+ *  - With the page actions listed (and how long each took) the failing
+ *    step is usually obvious from the report alone
+ *
+ * Steps are buffered per thread and handed to the report writer once the
+ * test ends, so parallel tests never touch the shared report model while
+ * they run. At most report.maxStepsPerTest steps are kept per test.
+ *
+ * Outside a recording (no test running) every call is a no-op.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class ReportSteps {
+
+    private static final int MAX_STEPS = FrameworkConfig.getInt("report.maxStepsPerTest", 500);
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private ReportSteps() {
+        // Utility class - no instances
+    }
+
+    // ==================== TEST LIFECYCLE ====================
+
+    /**
+     * Start recording for the test about to run on this thread
+     */
+    public static void begin() {
+        CURRENT.set(new Recording());
+    }
+
+    /**
+     * Stop recording and hand over what was collected
+     *
+     * @return null if nothing was being recorded
+     */
+    public static Recording end() {
+        Recording recording = CURRENT.get();
+        CURRENT.remove();
+        return recording;
+    }
+
+    // ==================== RECORDING ====================
+
+    /**
+     * A page action starts - call actionFinished() with the returned step
+     *
+     * @return null when not recording (or the step limit is reached)
+     */
+    public static ReportStep actionStarted(String action) {
+        Recording recording = CURRENT.get();
+        if (recording == null) {
+            return null;
+        }
+        ReportStep step = recording.add(ReportStep.Kind.ACTION, action, null);
+        recording.depth++;
+        return step;
+    }
+
+    public static void actionFinished(ReportStep step, long durationNanos, boolean failed) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.depth = Math.max(0, recording.depth - 1);
+        }
+        if (step != null) {
+            step.finish(durationNanos, failed);
+        }
+    }
+
+    /**
+     * Free-text step, e.g. from BasePage.step("Open Admin module")
+     */
+    public static void info(String text) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.add(ReportStep.Kind.INFO, text, null);
+        }
+    }
+
+    /**
+     * Reference a file already written to disk (screenshot, page source, log)
+     */
+    public static void attachment(String name, Path file) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.add(ReportStep.Kind.ATTACHMENT, name, file);
+        }
+    }
+
+    /**
+     * Steps of one test, in the order they started
+     */
+    public static final class Recording {
+
+        private final List<ReportStep> steps = new ArrayList<>();
+        private int depth;
+        private int dropped;
+
+        private ReportStep add(ReportStep.Kind kind, String text, Path file) {
+            // Attachments are always kept: they matter most on long failing tests
+            if (steps.size() >= MAX_STEPS && kind != ReportStep.Kind.ATTACHMENT) {
+                dropped++;
+                return null;
+            }
+            ReportStep step = new ReportStep(kind, text, depth, file);
+            steps.add(step);
+            return step;
+        }
+
+        public List<ReportStep> getSteps() {
+            return Collections.unmodifiableList(steps);
+        }
+
+        /**
+         * @return steps not kept because the per-test limit was reached
+         */
+        public int getDropped() {
+            return dropped;
+        }
+    }
+}
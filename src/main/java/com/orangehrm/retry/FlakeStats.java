@@ -0,0 +1,109 @@
+package com.orangehrm.retry;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FlakeStats - Retries of the current suite, per test
+ *
+ * Outcome of a retried test:
+ *  - flaky  : failed transiently, then passed
+ *  - failed : still failing after its retries (or the budget ran out)
+ *
+ * The retry budget is suite-wide: when the environment is really down,
+ * a handful of retries is spent and everything else fails fast instead
+ * of doubling the run time.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class FlakeStats {
+
+    private static final Map<String, TestFlakes> TESTS = new ConcurrentHashMap<>();
+    private static final AtomicInteger BUDGET_LEFT = new AtomicInteger();
+    private static volatile int budget;
+
+    private FlakeStats() {
+        // Utility class - no instances
+    }
+
+    /**
+     * Start of a suite: forget everything, refill the budget
+     */
+    public static void reset(int suiteBudget) {
+        TESTS.clear();
+        budget = suiteBudget;
+        BUDGET_LEFT.set(suiteBudget);
+    }
+
+    /**
+     * Take one retry from the suite budget
+     *
+     * @return false if the budget is used up
+     */
+    static boolean tryConsumeBudget() {
+        while (true) {
+            int left = BUDGET_LEFT.get();
+            if (left <= 0) {
+                return false;
+            }
+            if (BUDGET_LEFT.compareAndSet(left, left - 1)) {
+                return true;
+            }
+        }
+    }
+
+    static void recordRetry(String testId, String reason) {
+        TESTS.computeIfAbsent(testId, id -> new TestFlakes()).retried(reason);
+    }
+
+    /**
+     * Final result of a test - only kept for tests that were retried
+     */
+    public static void recordOutcome(String testId, boolean passed) {
+        TestFlakes flakes = TESTS.get(testId);
+        if (flakes != null) {
+            flakes.outcome = passed ? "flaky" : "failed";
+        }
+    }
+
+    public static boolean hasRetries() {
+        return !TESTS.isEmpty();
+    }
+
+    /**
+     * JSON-ready view: budget, retries used and each retried test
+     */
+    public static Map<String, Object> report() {
+        Map<String, Object> tests = new TreeMap<>();
+        TESTS.forEach((testId, flakes) -> tests.put(testId, flakes.toMap()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("retryBudget", budget);
+        report.put("retriesUsed", budget - Math.max(0, BUDGET_LEFT.get()));
+        report.put("tests", tests);
+        return report;
+    }
+
+    private static final class TestFlakes {
+        private final List<String> reasons = new ArrayList<>();
+        private volatile String outcome = "failed";
+
+        private synchronized void retried(String reason) {
+            reasons.add(reason);
+        }
+
+        private synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("attempts", reasons.size() + 1);
+            map.put("outcome", outcome);
+            map.put("retryReasons", new ArrayList<>(reasons));
+            return map;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.orangehrm.retry;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.util.Locale;
+
+/**
+ * TransientFailures - Is this failure worth a second attempt?
+ *
+ * Transient (the environment hiccupped, the test may well pass):
+ *  - Selenium timeouts: slow redirect, element not there in time
+ *  - Stale elements: the page re-rendered between find and use
+ *  - Connection problems: reset, refused, unreachable or crashed browser,
+ *    net::ERR_* page loads
+ *
+ * Never transient: an AssertionError anywhere in the cause chain. A wrong
+ * value is a real failure, however flaky the environment is.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class TransientFailures {
+
+    private static final String[] TRANSIENT_MESSAGES = {
+            "connection reset", "connection refused", "net::err_", "timed out receiving message from renderer"
+    };
+
+    private TransientFailures() {
+        // Utility class - no instances
+    }
+
+    /**
+     * Typed causes win over message matching: WebDriverException copies its
+     * cause's text, so the wrapper would otherwise hide the real exception
+     *
+     * @return a short reason ("TimeoutException"), or null if the failure is not transient
+     */
+    public static String classify(Throwable failure) {
+        String typed = null;
+        String byMessage = null;
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof AssertionError) {
+                return null;
+            }
+            if (typed == null) {
+                typed = typedReason(t);
+            }
+            if (byMessage == null) {
+                byMessage = messageReason(t);
+            }
+        }
+        return typed != null ? typed : byMessage;
+    }
+
+    private static String typedReason(Throwable t) {
+        if (t instanceof TimeoutException
+                || t instanceof StaleElementReferenceException
+                || t instanceof NoSuchSessionException
+                || t instanceof UnreachableBrowserException
+                || t instanceof SocketException
+                || t instanceof ConnectException
+                || t instanceof InterruptedIOException) {
+            return t.getClass().getSimpleName();
+        }
+        return null;
+    }
+
+    private static String messageReason(Throwable t) {
+        if (t instanceof WebDriverException && t.getMessage() != null) {
+            String message = t.getMessage().toLowerCase(Locale.ROOT);
+            for (String pattern : TRANSIENT_MESSAGES) {
+                if (message.contains(pattern)) {
+                    return t.getClass().getSimpleName() + " (" + pattern + ")";
+                }
+            }
+        }
+        return null;
+    }
+}
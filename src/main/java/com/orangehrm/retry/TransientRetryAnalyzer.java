@@ -0,0 +1,52 @@
+package com.orangehrm.retry;
+
+import com.orangehrm.config.FrameworkConfig;
+import com.orangehrm.listeners.MetricsListener;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+/**
+ * TransientRetryAnalyzer - Runs a test again after a TRANSIENT failure
+ *
+ * Real-World Context:
+ *  - The public demo sometimes redirects slowly after login
+ *  - Failing the build for that teaches people to ignore red builds
+ *  - Rerunning everything hides real bugs - so we only retry failures
+ *    TransientFailures recognises, within a suite-wide budget
+ *
+ * A retry is cheap: teardown() returns the browser to the pool, which
+ * resets it (cookies, storage, tabs), and Setup() borrows it again - no
+ * new browser unless the old one crashed.
+ *
+ * TestNG keeps one analyzer per test method, so the attempt counter is
+ * per test. Attached to every test by RetryListener.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public class TransientRetryAnalyzer implements IRetryAnalyzer {
+
+    private static final Logger LOG = LogManager.getLogger(TransientRetryAnalyzer.class);
+
+    private final int maxRetries = FrameworkConfig.getInt("retry.maxRetries", 1);
+    private int retries;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        String testId = MetricsListener.testId(result);
+        String reason = TransientFailures.classify(result.getThrowable());
+        if (reason == null || retries >= maxRetries) {
+            return false;
+        }
+        if (!FlakeStats.tryConsumeBudget()) {
+            LOG.warn("Not retrying {} ({}): suite retry budget used up", testId, reason);
+            return false;
+        }
+        retries++;
+        FlakeStats.recordRetry(testId, reason);
+        LOG.warn("Retrying {} after transient {} (attempt {} of {})", testId, reason, retries + 1, maxRetries + 1);
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package com.orangehrm.session;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SessionCache - Suite-wide store of authenticated snapshots, one per user
+ *
+ * Shared by all worker threads. If two threads log in at the same time
+ * both snapshots are valid, the last one simply wins.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class SessionCache {
+
+    private static final Map<String, SessionSnapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private SessionCache() {
+        // Utility class - no instances
+    }
+
+    public static SessionSnapshot get(String username) {
+        return SNAPSHOTS.get(username);
+    }
+
+    public static void put(String username, SessionSnapshot snapshot) {
+        SNAPSHOTS.put(username, snapshot);
+    }
+
+    /**
+     * Drop a snapshot the server no longer accepts
+     * Only removes it if no other thread has stored a fresher one meanwhile
+     */
+    public static void invalidate(String username, SessionSnapshot expired) {
+        SNAPSHOTS.remove(username, expired);
+    }
+
+    public static void clear() {
+        SNAPSHOTS.clear();
+    }
+}
@@ -0,0 +1,106 @@
+package com.orangehrm.session;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SessionSnapshot - Everything a browser needs to "be logged in"
+ * Session cookies plus the app's local/session storage entries
+ *
+ * Real-World Context:
+ *  - Typing credentials and waiting for the redirect costs seconds per test
+ *  - Dashboard tests only need an authenticated user, not the login form
+ *  - We capture the state ONCE after a real login and inject it afterwards
+ *
+ * Immutable and safe to share between threads.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class SessionSnapshot {
+
+    private static final String READ_STORAGE_SCRIPT =
+            "var read = function (s) { var m = {};"
+            + " for (var i = 0; i < s.length; i++) { var k = s.key(i); m[k] = s.getItem(k); } return m; };"
+            + " return { local: read(window.localStorage), session: read(window.sessionStorage) };";
+
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var write = function (s, m) { for (var k in m) { s.setItem(k, m[k]); } };"
+            + " write(window.localStorage, arguments[0]); write(window.sessionStorage, arguments[1]);";
+
+    private final Set<Cookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+    private final Instant capturedAt;
+
+    private SessionSnapshot(Set<Cookie> cookies, Map<String, String> localStorage,
+                            Map<String, String> sessionStorage, Instant capturedAt) {
+        this.cookies = Collections.unmodifiableSet(new HashSet<>(cookies));
+        this.localStorage = Collections.unmodifiableMap(new HashMap<>(localStorage));
+        this.sessionStorage = Collections.unmodifiableMap(new HashMap<>(sessionStorage));
+        this.capturedAt = capturedAt;
+    }
+
+    /**
+     * Capture the authenticated state of a logged-in browser
+     *
+     * Real scenario: first successful login of the suite
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionSnapshot capture(WebDriver driver) {
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(READ_STORAGE_SCRIPT);
+        return new SessionSnapshot(
+                driver.manage().getCookies(),
+                toStringMap((Map<String, Object>) storage.get("local")),
+                toStringMap((Map<String, Object>) storage.get("session")),
+                Instant.now());
+    }
+
+    /**
+     * Inject this state into a browser
+     * The browser must already be on the application's origin
+     * (cookies and storage are scoped to the current domain)
+     */
+    public void restore(WebDriver driver) {
+        driver.manage().deleteAllCookies();
+        for (Cookie cookie : cookies) {
+            driver.manage().addCookie(cookie);
+        }
+        ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT, localStorage, sessionStorage);
+    }
+
+    /**
+     * @return true if the snapshot is older than the given time-to-live
+     */
+    public boolean isOlderThan(Duration ttl) {
+        return capturedAt.plus(ttl).isBefore(Instant.now());
+    }
+
+    public Instant getCapturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * Session cookies - also what ApiSession sends to the HTTP API
+     */
+    public Set<Cookie> getCookies() {
+        return cookies;
+    }
+
+    private static Map<String, String> toStringMap(Map<String, Object> values) {
+        Map<String, String> result = new HashMap<>();
+        if (values != null) {
+            values.forEach((key, value) -> result.put(key, String.valueOf(value)));
+        }
+        return result;
+    }
+}
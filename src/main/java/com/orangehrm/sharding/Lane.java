@@ -0,0 +1,25 @@
+package com.orangehrm.sharding;
+
+/**
+ * Lane - One of several instances of a test class that split the same work
+ *
+ * Real-World Context:
+ *  - LoginMatrixTests is created once per lane (@Factory) and every lane
+ *    pulls rows from the same Excel reader
+ *  - Under one Class.method key, each lane would be recorded and scheduled
+ *    as if it took as long as all lanes together
+ *
+ * Timings are kept per lane (Class.method.lane2). All lanes of a method
+ * still run in the same shard: the rows are shared inside one JVM, so
+ * lanes in two shards would each run the whole sheet.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public interface Lane {
+
+    /**
+     * @return this instance's lane, 1..number of lanes
+     */
+    int getLane();
+}
@@ -0,0 +1,115 @@
+package com.orangehrm.sharding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * MakespanSimulator - How long would this order take on N workers?
+ *
+ * Replays TestNG's dispatch: the next test in the order whose dependencies
+ * have finished goes to the first free worker. Used to compare the
+ * longest-first order with the fixed priority order before running.
+ *
+ * Priorities are not just an order: TestNG links each priority level to
+ * the next one, so with parallel methods a level only starts once every
+ * test of the previous level has finished. Pass the declared priorities
+ * to model that barrier.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class MakespanSimulator {
+
+    private MakespanSimulator() {
+        // Utility class - no instances
+    }
+
+    /**
+     * @param order        tests in dispatch order
+     * @param estimates    test -> expected milliseconds
+     * @param dependencies test -> tests it depends on (missing = none)
+     * @param workers      parallel worker threads
+     * @return expected wall time of the whole order, in milliseconds
+     */
+    public static long makespan(List<String> order, Map<String, Long> estimates,
+                                Map<String, Set<String>> dependencies, int workers) {
+        PriorityQueue<Long> freeAt = new PriorityQueue<>();
+        for (int i = 0; i < Math.max(1, workers); i++) {
+            freeAt.add(0L);
+        }
+        Map<String, Long> finishedAt = new HashMap<>();
+        List<String> pending = new LinkedList<>(order);
+        long makespan = 0;
+
+        while (!pending.isEmpty()) {
+            String next = null;
+            for (String test : pending) {
+                if (finishedAt.keySet().containsAll(dependencies.getOrDefault(test, Collections.emptySet()))) {
+                    next = test;
+                    break;
+                }
+            }
+            if (next == null) {
+                // Dependency outside the order (or a cycle): TestNG would skip these
+                break;
+            }
+            pending.remove(next);
+
+            long ready = 0;
+            for (String dependency : dependencies.getOrDefault(next, Collections.emptySet())) {
+                ready = Math.max(ready, finishedAt.get(dependency));
+            }
+            long start = Math.max(freeAt.poll(), ready);
+            long end = start + estimates.getOrDefault(next, 0L);
+            finishedAt.put(next, end);
+            freeAt.add(end);
+            makespan = Math.max(makespan, end);
+        }
+        return makespan;
+    }
+
+    /**
+     * Same, for tests dispatched by their declared priority
+     *
+     * @param priorities test -> priority; each level waits for the whole previous level
+     */
+    public static long makespan(List<String> order, Map<String, Long> estimates,
+                                Map<String, Set<String>> dependencies, Map<String, Integer> priorities,
+                                int workers) {
+        TreeMap<Integer, Set<String>> levels = new TreeMap<>();
+        for (String test : order) {
+            levels.computeIfAbsent(priorities.getOrDefault(test, 0), p -> new HashSet<>()).add(test);
+        }
+        Map<String, Set<String>> withLevels = new HashMap<>();
+        for (String test : order) {
+            Set<String> waitsFor = new HashSet<>(dependencies.getOrDefault(test, Collections.emptySet()));
+            Map.Entry<Integer, Set<String>> previous = levels.lowerEntry(priorities.getOrDefault(test, 0));
+            if (previous != null) {
+                waitsFor.addAll(previous.getValue());
+            }
+            withLevels.put(test, waitsFor);
+        }
+        return makespan(order, estimates, withLevels, workers);
+    }
+
+    /**
+     * Median of the known durations - the estimate for tests without history
+     */
+    public static long median(Iterable<Long> values, long whenEmpty) {
+        List<Long> sorted = new ArrayList<>();
+        values.forEach(sorted::add);
+        if (sorted.isEmpty()) {
+            return whenEmpty;
+        }
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
@@ -0,0 +1,116 @@
+package com.orangehrm.sharding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * ShardPlanner - Splits a suite into N shards of similar total DURATION
+ *
+ * Real-World Context:
+ *  - Splitting by test count puts all Dashboard tests (login per test)
+ *    in one shard and the cheap login negatives in another
+ *  - The whole run waits for the slowest shard
+ *  - So we balance by how long each test took in earlier runs
+ *
+ * Algorithm: longest processing time first - take the longest group, give
+ * it to the least loaded shard, repeat. Ties are broken by name and shard
+ * number, so every CI node computes the SAME plan from the same inputs;
+ * that is what guarantees each test runs exactly once across all shards.
+ *
+ * Tests without history are estimated with the median known duration.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class ShardPlanner {
+
+    // Estimate when there is no history at all: every test costs the same
+    public static final long DEFAULT_ESTIMATE_MILLIS = 10_000;
+
+    private ShardPlanner() {
+        // Utility class - no instances
+    }
+
+    /**
+     * @param groups  tests that must run in the same shard (dependsOnMethods chains),
+     *                usually one test per group
+     * @param timings Class.method -> historical milliseconds
+     * @param total   number of shards
+     * @return the shards, index 0 .. total-1
+     */
+    public static List<Shard> plan(Collection<List<String>> groups, Map<String, Long> timings, int total) {
+        if (total < 1) {
+            throw new IllegalArgumentException("Shard total must be at least 1 but was " + total);
+        }
+        long unknownEstimate = MakespanSimulator.median(timings.values(), DEFAULT_ESTIMATE_MILLIS);
+
+        List<Group> sorted = new ArrayList<>();
+        for (List<String> tests : groups) {
+            List<String> names = new ArrayList<>(tests);
+            Collections.sort(names);
+            long estimate = 0;
+            for (String test : names) {
+                estimate += timings.getOrDefault(test, unknownEstimate);
+            }
+            sorted.add(new Group(names, estimate));
+        }
+        sorted.sort(Comparator.comparingLong((Group group) -> group.estimateMillis).reversed()
+                .thenComparing(group -> group.tests.get(0)));
+
+        List<Shard> shards = new ArrayList<>();
+        PriorityQueue<Shard> leastLoaded = new PriorityQueue<>(
+                Comparator.comparingLong((Shard shard) -> shard.estimateMillis).thenComparingInt(shard -> shard.index));
+        for (int i = 0; i < total; i++) {
+            Shard shard = new Shard(i);
+            shards.add(shard);
+            leastLoaded.add(shard);
+        }
+        for (Group group : sorted) {
+            Shard shard = leastLoaded.poll();
+            shard.tests.addAll(group.tests);
+            shard.estimateMillis += group.estimateMillis;
+            leastLoaded.add(shard);
+        }
+        return shards;
+    }
+
+    private static final class Group {
+        private final List<String> tests;
+        private final long estimateMillis;
+
+        private Group(List<String> tests, long estimateMillis) {
+            this.tests = tests;
+            this.estimateMillis = estimateMillis;
+        }
+    }
+
+    /**
+     * One shard of the plan: its tests and their estimated total duration
+     */
+    public static final class Shard {
+        private final int index;
+        private final List<String> tests = new ArrayList<>();
+        private long estimateMillis;
+
+        private Shard(int index) {
+            this.index = index;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public List<String> getTests() {
+            return Collections.unmodifiableList(tests);
+        }
+
+        public long getEstimateMillis() {
+            return estimateMillis;
+        }
+    }
+}
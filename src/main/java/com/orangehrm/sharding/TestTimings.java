@@ -0,0 +1,246 @@
+package com.orangehrm.sharding;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * TestTimings - Historical duration of every test method, kept in a properties file
+ *
+ * Format: Class.method=milliseconds (setup included, see ShardListener)
+ *
+ * Updates are smoothed (new = 0.5 x old + 0.5 x measured) so one slow run
+ * does not reshuffle every shard. Writes happen under a file lock, are
+ * merged with what is already there, then atomically moved into place.
+ *
+ * Sharded runs never touch the file directly: every shard must plan from
+ * the same snapshot, and shards may start after others have finished (N
+ * local JVMs one after another). Each shard leaves its measurements in a
+ * part file named after the run (<file>.shard-<run>-2-of-3); the shard that
+ * completes the run's set merges its parts into the file at once and
+ * deletes them. Parts of other runs (an aborted or older one) never
+ * complete the set and are deleted.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class TestTimings {
+
+    private static final Logger LOG = LogManager.getLogger(TestTimings.class);
+    private static final double SMOOTHING = 0.5;
+
+    private final Path file;
+
+    public TestTimings(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * @return Class.method -> milliseconds, empty if there is no history yet
+     */
+    public Map<String, Long> load() {
+        return parse(read(file), file);
+    }
+
+    /**
+     * Merge the durations measured in this (unsharded) run into the file
+     */
+    public void update(Map<String, Long> measured) {
+        if (measured.isEmpty()) {
+            return;
+        }
+        try {
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            try (FileChannel channel = FileChannel.open(lockFile(dir), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    merge(dir, measured);
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not update test timings {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Identifies a run by the timings it planned from - the same for every shard of it
+     * Used when no explicit run id is given
+     */
+    public static String fingerprint(Map<String, Long> planned) {
+        return String.format("%08x", planned.hashCode());
+    }
+
+    /**
+     * Keep what one shard measured aside until every shard of the run has reported
+     *
+     * @param runId same for all shards of one run, different between runs
+     * @param index 1..total
+     * @return true if this shard completed the set and the file was updated
+     */
+    public boolean updateShard(Map<String, Long> measured, String runId, int index, int total) {
+        try {
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            try (FileChannel channel = FileChannel.open(lockFile(dir), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    return mergeShard(dir, measured, runId, index, total);
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not record shard {}/{} timings next to {}: {}", index, total, file, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Write this shard's part, merge all parts once every shard has one - caller holds the lock
+     */
+    private boolean mergeShard(Path dir, Map<String, Long> measured, String runId, int index, int total)
+            throws IOException {
+        deleteOtherRuns(dir, runId);
+
+        // Written even when empty: it also says "this shard has finished"
+        Properties part = new Properties();
+        measured.forEach((test, millis) -> part.setProperty(test, Long.toString(millis)));
+        write(dir, partFile(dir, runId, index, total), part,
+                "# Durations measured by shard " + index + " of " + total + ", run " + runId);
+
+        List<Path> parts = new ArrayList<>();
+        for (int i = 1; i <= total; i++) {
+            Path other = partFile(dir, runId, i, total);
+            if (!Files.isRegularFile(other)) {
+                return false;
+            }
+            parts.add(other);
+        }
+        // Each test ran in exactly one shard, so the parts never overlap
+        Map<String, Long> combined = new HashMap<>();
+        for (Path other : parts) {
+            combined.putAll(parse(read(other), other));
+        }
+        if (!combined.isEmpty()) {
+            merge(dir, combined);
+        }
+        for (Path other : parts) {
+            Files.deleteIfExists(other);
+        }
+        return true;
+    }
+
+    /**
+     * Smooth the measured durations into the file - caller holds the lock
+     */
+    private void merge(Path dir, Map<String, Long> measured) throws IOException {
+        // Re-read under the lock: another JVM may have written meanwhile
+        Properties properties = read(file);
+        measured.forEach((test, millis) -> {
+            String previous = properties.getProperty(test);
+            long value = millis;
+            if (previous != null) {
+                try {
+                    value = Math.round(SMOOTHING * Long.parseLong(previous.trim()) + (1 - SMOOTHING) * millis);
+                } catch (NumberFormatException e) {
+                    // Corrupt entry - replace it
+                }
+            }
+            properties.setProperty(test, Long.toString(value));
+        });
+        write(dir, file, properties,
+                "# Test durations in ms (setup included), used to balance shards - updated after each run");
+    }
+
+    private Path lockFile(Path dir) {
+        return dir.resolve(file.getFileName() + ".lock");
+    }
+
+    private Path partFile(Path dir, String runId, int index, int total) {
+        return dir.resolve(partPrefix() + runId + "-" + index + "-of-" + total);
+    }
+
+    private String partPrefix() {
+        return file.getFileName() + ".shard-";
+    }
+
+    /**
+     * Parts left by other runs would never be merged - remove them - caller holds the lock
+     */
+    private void deleteOtherRuns(Path dir, String runId) throws IOException {
+        String prefix = partPrefix();
+        String mine = prefix + runId + "-";
+        List<Path> stale = new ArrayList<>();
+        try (DirectoryStream<Path> parts = Files.newDirectoryStream(dir, prefix + "*")) {
+            for (Path part : parts) {
+                if (!part.getFileName().toString().startsWith(mine)) {
+                    stale.add(part);
+                }
+            }
+        }
+        for (Path part : stale) {
+            Files.deleteIfExists(part);
+        }
+        if (!stale.isEmpty()) {
+            LOG.warn("Deleted {} shard timing part(s) of other runs next to {}", stale.size(), file);
+        }
+    }
+
+    private static void write(Path dir, Path target, Properties properties, String header) throws IOException {
+        // Sorted, so the file diffs cleanly when it is committed
+        List<String> keys = new ArrayList<>(properties.stringPropertyNames());
+        Collections.sort(keys);
+        StringBuilder content = new StringBuilder(header).append('\n');
+        for (String key : keys) {
+            content.append(key).append('=').append(properties.getProperty(key)).append('\n');
+        }
+        Path temp = Files.createTempFile(dir, target.getFileName().toString(), ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            out.write(content.toString().getBytes(StandardCharsets.ISO_8859_1));
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Map<String, Long> parse(Properties properties, Path source) {
+        Map<String, Long> timings = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                timings.put(key, Long.parseLong(properties.getProperty(key).trim()));
+            } catch (NumberFormatException e) {
+                LOG.warn("Ignoring timing '{}={}' in {}", key, properties.getProperty(key), source);
+            }
+        }
+        return timings;
+    }
+
+    private static Properties read(Path source) {
+        Properties properties = new Properties();
+        if (Files.isRegularFile(source)) {
+            try (InputStream in = Files.newInputStream(source)) {
+                properties.load(in);
+            } catch (IOException e) {
+                LOG.warn("Ignoring unreadable test timings {}: {}", source, e.getMessage());
+            }
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,259 @@
+package com.orangehrm.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * StandInApi - The api/v2 endpoints ApiFixtures seeds data through
+ *
+ * Same URLs, JSON shapes and status codes as OrangeHRM 5, kept in memory:
+ *  - pim/employees                  GET list, POST create, DELETE {ids}
+ *  - admin/users                    GET list, POST create, DELETE {ids}
+ *  - leave/leave-types              GET list
+ *  - leave/leave-entitlements       POST create
+ *  - leave/employees/leave-requests POST assign leave
+ *
+ * Authenticated by the same "orangehrm" session cookie as the pages:
+ * 401 without it. Duplicate employee ids / usernames give 422.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+final class StandInApi {
+
+    static final String PATH = "api/v2/";
+
+    private static final Json JSON = new Json();
+
+    // Leave types of a default installation, by id
+    private static final Map<Integer, String> LEAVE_TYPES = new LinkedHashMap<>();
+
+    static {
+        LEAVE_TYPES.put(1, "CAN - Bereavement");
+        LEAVE_TYPES.put(2, "CAN - FMLA");
+        LEAVE_TYPES.put(3, "CAN - Personal");
+        LEAVE_TYPES.put(4, "CAN - Vacation");
+    }
+
+    private final AtomicInteger ids = new AtomicInteger(100);
+    private final Map<Integer, Map<String, Object>> employees = new ConcurrentSkipListMap<>();
+    private final Map<Integer, Map<String, Object>> users = new ConcurrentSkipListMap<>();
+    private final Map<Integer, Map<String, Object>> entitlements = new ConcurrentHashMap<>();
+    private final Map<Integer, Map<String, Object>> leaveRequests = new ConcurrentHashMap<>();
+
+    // ==================== ROUTING ====================
+
+    /**
+     * @param resource path after api/v2/, e.g. "pim/employees"
+     */
+    void handle(HttpExchange exchange, StandInSession session, String resource) throws IOException {
+        if (session == null || !session.isAuthenticated()) {
+            sendError(exchange, 401, "Session expired");
+            return;
+        }
+        String method = exchange.getRequestMethod();
+        Map<String, Object> body;
+        try {
+            body = method.equals("GET") ? Collections.emptyMap() : readJson(exchange);
+        } catch (JsonException | ClassCastException e) {
+            sendError(exchange, 400, "Invalid JSON body");
+            return;
+        }
+
+        String key = method + " " + resource;
+        switch (key) {
+            case "GET pim/employees":
+                sendList(exchange, employees.values());
+                break;
+            case "POST pim/employees":
+                createEmployee(exchange, body);
+                break;
+            case "DELETE pim/employees":
+                deleteEmployees(exchange, body);
+                break;
+            case "GET admin/users":
+                sendList(exchange, users.values());
+                break;
+            case "POST admin/users":
+                createUser(exchange, body);
+                break;
+            case "DELETE admin/users":
+                sendData(exchange, deleteAll(users, body));
+                break;
+            case "GET leave/leave-types":
+                List<Map<String, Object>> types = new ArrayList<>();
+                LEAVE_TYPES.forEach((id, name) -> types.add(record("id", id, "name", name)));
+                sendList(exchange, types);
+                break;
+            case "POST leave/leave-entitlements":
+                createLeaveRecord(exchange, body, entitlements);
+                break;
+            case "POST leave/employees/leave-requests":
+                createLeaveRecord(exchange, body, leaveRequests);
+                break;
+            default:
+                sendError(exchange, 404, "Not Found");
+                break;
+        }
+    }
+
+    // ==================== RESOURCES ====================
+
+    private void createEmployee(HttpExchange exchange, Map<String, Object> body) throws IOException {
+        String firstName = string(body, "firstName");
+        String lastName = string(body, "lastName");
+        String employeeId = string(body, "employeeId");
+        if (firstName.isEmpty() || lastName.isEmpty()) {
+            sendError(exchange, 422, "Invalid Parameter: firstName and lastName are required");
+            return;
+        }
+        Map<String, Object> employee = record("empNumber", ids.incrementAndGet(),
+                "firstName", firstName, "middleName", string(body, "middleName"),
+                "lastName", lastName, "employeeId", employeeId);
+        synchronized (employees) {
+            if (!employeeId.isEmpty() && employees.values().stream()
+                    .anyMatch(existing -> employeeId.equals(existing.get("employeeId")))) {
+                sendError(exchange, 422, "Invalid Parameter: Employee Id already exists");
+                return;
+            }
+            employees.put((Integer) employee.get("empNumber"), employee);
+        }
+        sendData(exchange, employee);
+    }
+
+    private void deleteEmployees(HttpExchange exchange, Map<String, Object> body) throws IOException {
+        List<Integer> deleted = deleteAll(employees, body);
+        // Like the real application: the employee's account and leave go too
+        users.values().removeIf(user -> deleted.contains(user.get("empNumber")));
+        entitlements.values().removeIf(entitlement -> deleted.contains(entitlement.get("empNumber")));
+        leaveRequests.values().removeIf(request -> deleted.contains(request.get("empNumber")));
+        sendData(exchange, deleted);
+    }
+
+    private void createUser(HttpExchange exchange, Map<String, Object> body) throws IOException {
+        String username = string(body, "username");
+        Integer empNumber = integer(body, "empNumber");
+        if (username.length() < 5 || string(body, "password").length() < 7) {
+            sendError(exchange, 422, "Invalid Parameter: username or password too short");
+            return;
+        }
+        if (empNumber == null || !employees.containsKey(empNumber)) {
+            sendError(exchange, 422, "Invalid Parameter: Employee does not exist");
+            return;
+        }
+        Map<String, Object> user = record("id", ids.incrementAndGet(), "username", username,
+                "userRoleId", integer(body, "userRoleId"), "status", Boolean.TRUE.equals(body.get("status")),
+                "empNumber", empNumber);
+        synchronized (users) {
+            if (users.values().stream().anyMatch(existing -> username.equals(existing.get("username")))) {
+                sendError(exchange, 422, "Invalid Parameter: Username already exists");
+                return;
+            }
+            users.put((Integer) user.get("id"), user);
+        }
+        sendData(exchange, user);
+    }
+
+    private void createLeaveRecord(HttpExchange exchange, Map<String, Object> body,
+                                   Map<Integer, Map<String, Object>> store) throws IOException {
+        Integer empNumber = integer(body, "empNumber");
+        Integer leaveTypeId = integer(body, "leaveTypeId");
+        if (empNumber == null || !employees.containsKey(empNumber)
+                || leaveTypeId == null || !LEAVE_TYPES.containsKey(leaveTypeId)
+                || string(body, "fromDate").isEmpty() || string(body, "toDate").isEmpty()) {
+            sendError(exchange, 422, "Invalid Parameter: empNumber, leaveTypeId, fromDate and toDate are required");
+            return;
+        }
+        Map<String, Object> record = new LinkedHashMap<>(body);
+        record.put("id", ids.incrementAndGet());
+        record.put("empNumber", empNumber);
+        store.put((Integer) record.get("id"), record);
+        sendData(exchange, record);
+    }
+
+    private static List<Integer> deleteAll(Map<Integer, Map<String, Object>> store, Map<String, Object> body) {
+        List<Integer> deleted = new ArrayList<>();
+        Object ids = body.get("ids");
+        if (ids instanceof Collection) {
+            for (Object id : (Collection<?>) ids) {
+                if (id instanceof Number && store.remove(((Number) id).intValue()) != null) {
+                    deleted.add(((Number) id).intValue());
+                }
+            }
+        }
+        return deleted;
+    }
+
+    // ==================== JSON HELPERS ====================
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> readJson(HttpExchange exchange) throws IOException {
+        String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        return body.isBlank() ? Collections.emptyMap() : (Map<String, Object>) JSON.toType(body, Map.class);
+    }
+
+    private static Map<String, Object> record(Object... keyValues) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            record.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return record;
+    }
+
+    private static String string(Map<String, Object> body, String key) {
+        Object value = body.get(key);
+        return value == null ? "" : String.valueOf(value).trim();
+    }
+
+    private static Integer integer(Map<String, Object> body, String key) {
+        Object value = body.get(key);
+        return value instanceof Number ? ((Number) value).intValue() : null;
+    }
+
+    private static void sendList(HttpExchange exchange, Collection<Map<String, Object>> items) throws IOException {
+        List<Map<String, Object>> data = new ArrayList<>(items);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("data", data);
+        response.put("meta", record("total", data.size()));
+        send(exchange, 200, response);
+    }
+
+    private static void sendData(HttpExchange exchange, Object data) throws IOException {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("data", data);
+        response.put("meta", Collections.emptyList());
+        send(exchange, 200, response);
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, Collections.singletonMap("error",
+                record("status", String.valueOf(status), "message", message)));
+    }
+
+    private static void send(HttpExchange exchange, int status, Object response) throws IOException {
+        byte[] body = JSON.toJson(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.orangehrm.standin;
+
+import com.orangehrm.config.FrameworkConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * StandInServer - Embedded local copy of the OrangeHRM pages the suite uses
+ *
+ * Real-World Context:
+ *  - The public demo is shared, rate-limited and an internet round trip away
+ *  - Offline CI nodes can't reach it at all
+ *  - This JDK HttpServer starts in milliseconds inside the test JVM and
+ *    serves the same DOM contracts LoginPage and DashboardPage locate
+ *
+ * What behaves like the real application:
+ *  - Login form posts to auth/validate with a per-session form token
+ *  - "orangehrm" session cookie, renewed on login, destroyed on logout,
+ *    expired after standin.sessionIdleMinutes without a request
+ *  - Every module page redirects to the login page without a valid session
+ *  - Wrong credentials show "Invalid credentials", empty fields "Required"
+ *  - The api/v2 endpoints used for seeding test data (StandInApi)
+ *
+ * Start the shared instance with shared(); tests find it through BASE_URL.
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+public final class StandInServer {
+
+    public static final String COOKIE_NAME = "orangehrm";
+
+    private static final String APP = "/web/index.php/";
+    private static final String LOGIN_PATH = APP + "auth/login";
+    private static final String DASHBOARD_PATH = APP + "dashboard/index";
+
+    // Menu name -> landing page, in sidebar order
+    private static final Map<String, String> MODULES = new LinkedHashMap<>();
+
+    static {
+        MODULES.put("Admin", APP + "admin/viewSystemUsers");
+        MODULES.put("PIM", APP + "pim/viewEmployeeList");
+        MODULES.put("Leave", APP + "leave/viewLeaveList");
+        MODULES.put("Time", APP + "time/viewEmployeeTimesheet");
+        MODULES.put("Recruitment", APP + "recruitment/viewCandidates");
+    }
+
+    static {
+        // Without TCP_NODELAY every small response waits ~40ms for a delayed ACK;
+        // read once, when the JDK creates its first HttpServer
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    // Expired sessions are swept when a new one is created, at most this often
+    private static final long SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+
+    private static StandInServer shared;
+
+    private final Map<String, String> credentials;
+    private final Map<String, StandInSession> sessions = new ConcurrentHashMap<>();
+    private final long sessionIdleNanos;
+    private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+    private final StandInApi api = new StandInApi();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String loginTemplate = template("login.html");
+    private final String layoutTemplate = template("layout.html");
+
+    /**
+     * @param port        0 picks a free port
+     * @param credentials username -> password accepted by the login form
+     */
+    public StandInServer(int port, Map<String, String> credentials) {
+        this(port, credentials, FrameworkConfig.standInSessionIdle());
+    }
+
+    /**
+     * @param sessionIdle a session unused this long is gone, like on the real server
+     */
+    public StandInServer(int port, Map<String, String> credentials, Duration sessionIdle) {
+        this.credentials = Collections.unmodifiableMap(new HashMap<>(credentials));
+        this.sessionIdleNanos = sessionIdle.toNanos();
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the stand-in server on port " + port, e);
+        }
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "standin-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * The stand-in shared by every test class in the JVM, started on first use
+     *
+     * Real scenario: BaseTest resolves BASE_URL without -Dbase.url
+     */
+    public static synchronized StandInServer shared(int port) {
+        if (shared == null) {
+            Map<String, String> users = new HashMap<>();
+            users.put("Admin", "admin123");
+            StandInServer server = new StandInServer(port, users);
+            server.start();
+            shared = server;
+        }
+        return shared;
+    }
+
+    /**
+     * Stop the shared stand-in, if one was started
+     */
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.stop();
+            shared = null;
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        sessions.clear();
+    }
+
+    /**
+     * @return e.g. http://127.0.0.1:41234/ - same shape as the demo URL
+     */
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort() + "/";
+    }
+
+    // ==================== ROUTING ====================
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            StandInSession session = currentSession(exchange);
+
+            if (path.equals("/") || path.equals(APP) || path.equals("/web/index.php")) {
+                redirect(exchange, session != null && session.isAuthenticated() ? DASHBOARD_PATH : LOGIN_PATH);
+            } else if (path.equals(LOGIN_PATH) && method.equals("GET")) {
+                showLogin(exchange, session);
+            } else if (path.equals(APP + "auth/validate") && method.equals("POST")) {
+                validateLogin(exchange, session);
+            } else if (path.equals(APP + "auth/logout")) {
+                logout(exchange, session);
+            } else if (path.equals(DASHBOARD_PATH)) {
+                showModule(exchange, session, "Dashboard");
+            } else if (MODULES.containsValue(path)) {
+                showModule(exchange, session, moduleName(path));
+            } else if (path.startsWith(APP + StandInApi.PATH)) {
+                api.handle(exchange, session, path.substring((APP + StandInApi.PATH).length()));
+            } else {
+                send(exchange, 404, "Not Found");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // ==================== PAGES ====================
+
+    private void showLogin(HttpExchange exchange, StandInSession session) throws IOException {
+        if (session != null && session.isAuthenticated()) {
+            redirect(exchange, DASHBOARD_PATH);
+            return;
+        }
+        if (session == null) {
+            session = newSession(exchange, null);
+        }
+        String error = session.takeFlashError();
+        String html = loginTemplate
+                .replace("${token}", session.getCsrfToken())
+                .replace("${error}", error == null ? "" :
+                        "<div class=\"oxd-alert oxd-alert--error\" role=\"alert\">"
+                        + "<p class=\"oxd-text oxd-alert-content-text\">" + escape(error) + "</p></div>");
+        send(exchange, 200, html);
+    }
+
+    private void validateLogin(HttpExchange exchange, StandInSession session) throws IOException {
+        Map<String, String> form = readForm(exchange);
+        if (session == null || !session.getCsrfToken().equals(form.get("_token"))) {
+            // Expired or forged form - start over with a fresh one, replacing the old session
+            if (session != null) {
+                sessions.remove(session.getId());
+            }
+            StandInSession fresh = newSession(exchange, null);
+            fresh.setFlashError("CSRF token validation failed");
+            redirect(exchange, LOGIN_PATH);
+            return;
+        }
+
+        String username = form.getOrDefault("username", "");
+        String password = form.getOrDefault("password", "");
+        if (!password.isEmpty() && password.equals(credentials.get(username))) {
+            sessions.remove(session.getId());
+            newSession(exchange, username);
+            redirect(exchange, DASHBOARD_PATH);
+        } else {
+            session.setFlashError("Invalid credentials");
+            redirect(exchange, LOGIN_PATH);
+        }
+    }
+
+    private void logout(HttpExchange exchange, StandInSession session) throws IOException {
+        if (session != null) {
+            sessions.remove(session.getId());
+        }
+        exchange.getResponseHeaders().add("Set-Cookie", COOKIE_NAME + "=; Path=/; Max-Age=0; HttpOnly");
+        redirect(exchange, LOGIN_PATH);
+    }
+
+    private void showModule(HttpExchange exchange, StandInSession session, String header) throws IOException {
+        if (session == null || !session.isAuthenticated()) {
+            redirect(exchange, LOGIN_PATH);
+            return;
+        }
+        StringBuilder menu = new StringBuilder();
+        MODULES.forEach((name, href) -> menu
+                .append("<li><a class=\"oxd-main-menu-item\" href=\"").append(href).append("\">")
+                .append("<span class=\"oxd-text oxd-main-menu-item--name\">").append(name)
+                .append("</span></a></li>\n"));
+        String html = layoutTemplate
+                .replace("${menu}", menu)
+                .replace("${user}", escape(session.getUsername()))
+                .replace("${header}", header);
+        send(exchange, 200, html);
+    }
+
+    private static String moduleName(String path) {
+        for (Map.Entry<String, String> module : MODULES.entrySet()) {
+            if (module.getValue().equals(path)) {
+                return module.getKey();
+            }
+        }
+        throw new IllegalArgumentException("Not a module page: " + path);
+    }
+
+    // ==================== SESSIONS ====================
+
+    private StandInSession currentSession(HttpExchange exchange) {
+        String cookieHeader = exchange.getRequestHeaders().getFirst("Cookie");
+        if (cookieHeader == null) {
+            return null;
+        }
+        for (String cookie : cookieHeader.split(";")) {
+            String[] pair = cookie.trim().split("=", 2);
+            if (pair.length == 2 && pair[0].equals(COOKIE_NAME)) {
+                StandInSession session = sessions.get(pair[1]);
+                if (session == null) {
+                    return null;
+                }
+                if (session.isExpired(System.nanoTime(), sessionIdleNanos)) {
+                    sessions.remove(session.getId());
+                    return null;
+                }
+                session.touch();
+                return session;
+            }
+        }
+        return null;
+    }
+
+    private StandInSession newSession(HttpExchange exchange, String username) {
+        sweepExpired();
+        StandInSession session = new StandInSession(username);
+        sessions.put(session.getId(), session);
+        exchange.getResponseHeaders().add("Set-Cookie",
+                COOKIE_NAME + "=" + session.getId() + "; Path=/; HttpOnly; SameSite=Lax");
+        return session;
+    }
+
+    /**
+     * Drop sessions nobody used for the idle timeout - anonymous login page
+     * visits and abandoned logins would otherwise pile up for the whole run
+     */
+    private void sweepExpired() {
+        long now = System.nanoTime();
+        long last = lastSweepNanos.get();
+        if (now - last < SWEEP_INTERVAL_NANOS || !lastSweepNanos.compareAndSet(last, now)) {
+            return;
+        }
+        sessions.values().removeIf(session -> session.isExpired(now, sessionIdleNanos));
+    }
+
+    /**
+     * Live sessions, expired ones included until the next sweep
+     */
+    int sessionCount() {
+        return sessions.size();
+    }
+
+    // ==================== HTTP HELPERS ====================
+
+    private static Map<String, String> readForm(HttpExchange exchange) throws IOException {
+        Map<String, String> form = new HashMap<>();
+        String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        for (String field : body.split("&")) {
+            String[] pair = field.split("=", 2);
+            if (!pair[0].isEmpty()) {
+                form.put(URLDecoder.decode(pair[0], StandardCharsets.UTF_8),
+                        pair.length == 2 ? URLDecoder.decode(pair[1], StandardCharsets.UTF_8) : "");
+            }
+        }
+        return form;
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(302, -1);
+    }
+
+    private static void send(HttpExchange exchange, int status, String html) throws IOException {
+        byte[] body = html.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+        // Never let the browser show a protected page from cache after logout
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static String template(String name) {
+        String path = "/standin/" + name;
+        try (InputStream in = StandInServer.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Stand-in page not found on classpath: " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read stand-in page " + path, e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.orangehrm.standin;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * StandInSession - Server-side state behind one "orangehrm" cookie
+ *
+ * Same life cycle as the real application:
+ *  - Every visitor gets an anonymous session (holds the login form token)
+ *  - A successful login replaces it with a NEW id (no session fixation)
+ *  - Logout destroys it, so the old cookie no longer opens any page
+ *  - Unused for the idle timeout, it expires: the next page is the login form
+ *
+ * @author Zain Ul Rehman
+ * @project OrangeHRM Automation Framework
+ */
+final class StandInSession {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final String id = randomToken();
+    private final String csrfToken = randomToken();
+    private final String username;
+    private volatile String flashError;
+    private volatile long lastAccessNanos = System.nanoTime();
+
+    StandInSession(String username) {
+        this.username = username;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getCsrfToken() {
+        return csrfToken;
+    }
+
+    /**
+     * @return the logged-in user, or null for an anonymous session
+     */
+    String getUsername() {
+        return username;
+    }
+
+    boolean isAuthenticated() {
+        return username != null;
+    }
+
+    /**
+     * Mark the session as used now - its idle time starts again
+     */
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    boolean isExpired(long nowNanos, long idleTimeoutNanos) {
+        return nowNanos - lastAccessNanos >= idleTimeoutNanos;
+    }
+
+    /**
+     * Message shown once on the next login page render ("Invalid credentials")
+     */
+    void setFlashError(String message) {
+        flashError = message;
+    }
+
+    String takeFlashError() {
+        String message = flashError;
+        flashError = null;
+        return message;
+    }
+
+    private static String randomToken() {
+        byte[] bytes = new byte[24];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
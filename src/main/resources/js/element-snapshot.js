@@ -0,0 +1,28 @@
+// Reads the state of many elements in one round trip.
+// arguments[0]: [{using, value}] in W3C locator form
+// arguments[1]: attribute names to read from every element
+// requires: locators.js
+var specs = arguments[0];
+var attributeNames = arguments[1];
+
+var result = [];
+for (var s = 0; s < specs.length; s++) {
+    var element = find(specs[s]);
+    if (!element) {
+        result.push({present: false});
+        continue;
+    }
+    var visible = isVisible(element);
+    var attributes = {};
+    for (var a = 0; a < attributeNames.length; a++) {
+        attributes[attributeNames[a]] = element.getAttribute(attributeNames[a]);
+    }
+    result.push({
+        present: true,
+        visible: visible,
+        enabled: !element.disabled,
+        text: visible ? (element.innerText || '').trim() : '',
+        attributes: attributes
+    });
+}
+return result;
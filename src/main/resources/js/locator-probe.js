@@ -0,0 +1,45 @@
+// Times how long the page takes to resolve each locator and counts its matches.
+// arguments[0]: [{using, value}] in W3C locator form
+// arguments[1]: resolutions per locator, averaged to get below the timer granularity
+var specs = arguments[0];
+var repeats = arguments[1];
+
+function countMatches(spec) {
+    switch (spec.using) {
+        case 'css selector':
+            return document.querySelectorAll(spec.value).length;
+        case 'xpath':
+            return document.evaluate(spec.value, document, null,
+                XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null).snapshotLength;
+        case 'tag name':
+            return document.getElementsByTagName(spec.value).length;
+        case 'link text':
+        case 'partial link text':
+            var links = document.getElementsByTagName('a');
+            var count = 0;
+            for (var i = 0; i < links.length; i++) {
+                var text = (links[i].innerText || '').trim();
+                if (spec.using === 'link text' ? text === spec.value : text.indexOf(spec.value) >= 0) {
+                    count++;
+                }
+            }
+            return count;
+        default:
+            throw new Error('Unsupported locator strategy: ' + spec.using);
+    }
+}
+
+var result = [];
+for (var s = 0; s < specs.length; s++) {
+    try {
+        var matches = 0;
+        var start = performance.now();
+        for (var r = 0; r < repeats; r++) {
+            matches = countMatches(specs[s]);
+        }
+        result.push({matches: matches, micros: (performance.now() - start) * 1000 / repeats});
+    } catch (e) {
+        result.push({error: String(e)});
+    }
+}
+return {domSize: document.getElementsByTagName('*').length, locators: result};
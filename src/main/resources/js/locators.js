@@ -0,0 +1,38 @@
+// Shared locator helpers, prepended by Scripts to every script that declares
+// "// requires: locators.js". Locators come in W3C form: {using, value}.
+
+function find(spec) {
+    switch (spec.using) {
+        case 'css selector':
+            return document.querySelector(spec.value);
+        case 'xpath':
+            return document.evaluate(spec.value, document, null,
+                XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+        case 'tag name':
+            return document.getElementsByTagName(spec.value)[0] || null;
+        case 'link text':
+        case 'partial link text':
+            var links = document.getElementsByTagName('a');
+            for (var i = 0; i < links.length; i++) {
+                var text = (links[i].innerText || '').trim();
+                if (spec.using === 'link text' ? text === spec.value : text.indexOf(spec.value) >= 0) {
+                    return links[i];
+                }
+            }
+            return null;
+        default:
+            return null;
+    }
+}
+
+function isVisible(element) {
+    if (!element) {
+        return false;
+    }
+    var style = window.getComputedStyle(element);
+    if (style.visibility === 'hidden' || style.display === 'none' || parseFloat(style.opacity) === 0) {
+        return false;
+    }
+    var rect = element.getBoundingClientRect();
+    return rect.width > 0 && rect.height > 0;
+}
@@ -0,0 +1,44 @@
+// Answers once the page has had no XHR/fetch in flight and no route change for a quiet period.
+// Asynchronous: one round trip, the polling happens inside the page.
+// arguments[0]: quiet period (ms)
+// arguments[1]: give up after (ms)
+// last argument: callback supplied by WebDriver
+var quietMillis = arguments[0];
+var timeoutMillis = arguments[1];
+var callback = arguments[arguments.length - 1];
+var state = window.__orangehrmNetwork;
+var start = performance.now();
+
+function report(idle) {
+    var result = {
+        installed: true,
+        idle: idle,
+        url: window.location.href,
+        inFlight: state.inFlight,
+        requests: state.started - state.mark.started,
+        failed: state.failed - state.mark.failed,
+        routeChanges: state.routeChanges - state.mark.routeChanges
+    };
+    state.mark = {started: state.started, failed: state.failed, routeChanges: state.routeChanges};
+    callback(result);
+}
+
+function check() {
+    var now = performance.now();
+    var busy = state.navigating || state.inFlight > 0 || document.readyState === 'loading';
+    var quietFor = now - state.lastActivity;
+    if (!busy && quietFor >= quietMillis) {
+        report(true);
+    } else if (now - start >= timeoutMillis) {
+        report(false);
+    } else {
+        // Quiet so far: sleep out the rest of the period, otherwise look again shortly
+        setTimeout(check, busy ? 10 : Math.max(1, quietMillis - quietFor));
+    }
+}
+
+if (!state) {
+    callback({installed: false});
+} else {
+    check();
+}
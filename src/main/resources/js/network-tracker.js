@@ -0,0 +1,93 @@
+// Counts the page's in-flight XHR/fetch requests and its navigations, read by network-idle.js.
+// Installed before any page script runs (Page.addScriptToEvaluateOnNewDocument),
+// or late on the current page when DevTools is not available.
+(function () {
+    if (window.__orangehrmNetwork) {
+        return;
+    }
+    var state = window.__orangehrmNetwork = {
+        inFlight: 0,
+        started: 0,
+        failed: 0,
+        routeChanges: 0,
+        navigating: false,
+        lastActivity: performance.now(),
+        // Counters at the last idle wait: the difference is what one action caused
+        mark: {started: 0, failed: 0, routeChanges: 0}
+    };
+
+    function begin() {
+        state.inFlight++;
+        state.started++;
+        state.lastActivity = performance.now();
+    }
+
+    function end(failed) {
+        state.inFlight = Math.max(0, state.inFlight - 1);
+        if (failed) {
+            state.failed++;
+        }
+        state.lastActivity = performance.now();
+    }
+
+    var send = XMLHttpRequest.prototype.send;
+    XMLHttpRequest.prototype.send = function () {
+        var xhr = this;
+        var done = false;
+        function finish() {
+            if (!done) {
+                done = true;
+                end(xhr.status === 0 || xhr.status >= 400);
+            }
+        }
+        // loadend follows load, error, abort and timeout alike
+        xhr.addEventListener('loadend', finish);
+        begin();
+        try {
+            return send.apply(xhr, arguments);
+        } catch (e) {
+            finish();
+            throw e;
+        }
+    };
+
+    if (window.fetch) {
+        var fetch = window.fetch;
+        window.fetch = function () {
+            begin();
+            try {
+                return fetch.apply(this, arguments).then(function (response) {
+                    end(!response.ok);
+                    return response;
+                }, function (error) {
+                    end(true);
+                    throw error;
+                });
+            } catch (e) {
+                end(true);
+                throw e;
+            }
+        };
+    }
+
+    // Client-side route transitions restart the quiet period
+    function routeChanged() {
+        state.routeChanges++;
+        state.lastActivity = performance.now();
+    }
+    ['pushState', 'replaceState'].forEach(function (name) {
+        var original = history[name];
+        history[name] = function () {
+            var result = original.apply(this, arguments);
+            routeChanged();
+            return result;
+        };
+    });
+    window.addEventListener('popstate', routeChanged);
+    window.addEventListener('hashchange', routeChanged);
+
+    // A full navigation has started: this document is never idle again
+    window.addEventListener('beforeunload', function () {
+        state.navigating = true;
+    });
+})();
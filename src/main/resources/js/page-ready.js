@@ -0,0 +1,21 @@
+// Checks a page readiness contract in one round trip.
+// arguments[0]: anchors, [{using, value}] in W3C locator form
+// arguments[1]: busy indicator {using, value}, or null
+// requires: locators.js
+var anchors = arguments[0];
+var busy = arguments[1];
+
+var missing = [];
+if (document.readyState !== 'loading') {
+    for (var a = 0; a < anchors.length; a++) {
+        if (!isVisible(find(anchors[a]))) {
+            missing.push(a);
+        }
+    }
+}
+return {
+    url: window.location.href,
+    readyState: document.readyState,
+    missing: missing,
+    busy: busy !== null && document.readyState !== 'loading' && isVisible(find(busy))
+};
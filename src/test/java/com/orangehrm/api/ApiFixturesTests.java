@@ -0,0 +1,81 @@
+package com.orangehrm.api;
+
+import com.orangehrm.data.Employee;
+import com.orangehrm.data.TestDataPool;
+import com.orangehrm.standin.StandInServer;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ApiFixturesTests - Bulk seeding and cleanup against the stand-in's api/v2
+ */
+public class ApiFixturesTests {
+
+    private static final Pattern TOKEN = Pattern.compile("name=\"_token\" value=\"([^\"]+)\"");
+
+    private StandInServer server;
+    private ApiClient client;
+
+    @BeforeClass
+    public void startStandIn() {
+        server = new StandInServer(0, Collections.singletonMap("Admin", "admin123"));
+        server.start();
+        client = new ApiClient(server.getBaseUrl(), login(server.getBaseUrl()));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStandIn() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test(description = "500 employees are created concurrently and removed again by close()")
+    public void testSeedAndRemove500Employees() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            employees.add(TestDataPool.employees().take());
+        }
+
+        try (ApiFixtures fixtures = new ApiFixtures(client)) {
+            List<Integer> empNumbers = fixtures.createEmployees(employees);
+
+            Assert.assertEquals(empNumbers.size(), 500);
+            Assert.assertEquals(new HashSet<>(empNumbers).size(), 500, "empNumber returned twice");
+            Assert.assertEquals(client.count("pim/employees"), 500);
+        }
+        Assert.assertEquals(client.count("pim/employees"), 0, "close() left employees behind");
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Log in like the browser does: form token from the login page, then auth/validate
+     */
+    private static ApiSession login(String baseUrl) {
+        Response page = RestAssured.given().redirects().follow(false)
+                .get(baseUrl + "web/index.php/auth/login");
+        Matcher token = TOKEN.matcher(page.asString());
+        Assert.assertTrue(token.find(), "No form token on the login page");
+
+        Response validated = RestAssured.given().redirects().follow(false)
+                .cookie(StandInServer.COOKIE_NAME, page.getCookie(StandInServer.COOKIE_NAME))
+                .formParam("_token", token.group(1))
+                .formParam("username", "Admin")
+                .formParam("password", "admin123")
+                .post(baseUrl + "web/index.php/auth/validate");
+        Assert.assertTrue(validated.getHeader("Location").endsWith("dashboard/index"), "Login failed");
+        return ApiSession.fromCookies(Collections.singletonMap(StandInServer.COOKIE_NAME,
+                validated.getCookie(StandInServer.COOKIE_NAME)));
+    }
+}
@@ -0,0 +1,88 @@
+package com.orangehrm.data;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * TestDataPoolTests - Reproducible, never-repeated synthetic records
+ */
+public class TestDataPoolTests {
+
+    private static final long SEED = 42;
+
+    @Test(description = "The same seed generates the same employees, users and leave requests")
+    public void testSameSeedSameRecords() {
+        Assert.assertEquals(take(employees(SEED), 50, Employee::toString),
+                take(employees(SEED), 50, Employee::toString));
+        Assert.assertEquals(take(systemUsers(SEED), 50, SystemUser::toString),
+                take(systemUsers(SEED), 50, SystemUser::toString));
+        Assert.assertEquals(take(leaveRequests(SEED), 50, LeaveRequest::toString),
+                take(leaveRequests(SEED), 50, LeaveRequest::toString));
+    }
+
+    @Test(description = "Another seed generates other records")
+    public void testOtherSeedOtherRecords() {
+        Assert.assertNotEquals(take(employees(SEED), 10, Employee::getEmployeeId),
+                take(employees(SEED + 1), 10, Employee::getEmployeeId));
+    }
+
+    @Test(description = "Parallel take() never hands out the same employee twice")
+    public void testConcurrentTakeHasNoDuplicates() throws Exception {
+        RecordPool<Employee> pool = employees(SEED);
+        int threads = 8;
+        int perThread = 250;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> take(pool, perThread, Employee::getEmployeeId)));
+            }
+            Set<String> ids = new HashSet<>();
+            for (Future<List<String>> future : futures) {
+                for (String id : future.get()) {
+                    Assert.assertTrue(ids.add(id), "Employee id handed out twice: " + id);
+                }
+            }
+            Assert.assertEquals(ids.size(), threads * perThread);
+            Assert.assertEquals(pool.getServed(), threads * perThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    // Small capacity: take() has to wait for the generator now and then
+
+    private static RecordPool<Employee> employees(long seed) {
+        return new RecordPool<>("employees", seed, Locale.ENGLISH, 4,
+                TestDataPool::employee, Employee::getEmployeeId);
+    }
+
+    private static RecordPool<SystemUser> systemUsers(long seed) {
+        return new RecordPool<>("systemUsers", seed, Locale.ENGLISH, 4,
+                TestDataPool::systemUser, SystemUser::getUsername);
+    }
+
+    private static RecordPool<LeaveRequest> leaveRequests(long seed) {
+        return new RecordPool<>("leaveRequests", seed, Locale.ENGLISH, 4,
+                TestDataPool::leaveRequest, LeaveRequest::toString);
+    }
+
+    private static <T> List<String> take(RecordPool<T> pool, int count, Function<T, String> key) {
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add(key.apply(pool.take()));
+        }
+        return keys;
+    }
+}
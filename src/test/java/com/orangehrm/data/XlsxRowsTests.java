@@ -0,0 +1,149 @@
+package com.orangehrm.data;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * XlsxRowsTests - Streaming rows from a workbook to several consumers
+ */
+public class XlsxRowsTests {
+
+    private static final List<String> COLUMNS = Arrays.asList("username", "password");
+
+    @Test(description = "Several iterators share the rows: every row is delivered exactly once")
+    public void testIteratorsShareRows() throws Exception {
+        List<String[]> rows = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            rows.add(new String[]{"user" + i, "secret" + i});
+        }
+        XlsxRows reader = new XlsxRows(workbook(rows, false), null, COLUMNS, 4, 10_000);
+
+        ExecutorService lanes = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int lane = 0; lane < 4; lane++) {
+                Iterator<Object[]> iterator = reader.iterator();
+                results.add(lanes.submit(() -> {
+                    List<String> usernames = new ArrayList<>();
+                    while (iterator.hasNext()) {
+                        usernames.add((String) iterator.next()[0]);
+                    }
+                    return usernames;
+                }));
+            }
+            List<String> delivered = new ArrayList<>();
+            for (Future<List<String>> result : results) {
+                delivered.addAll(result.get());
+            }
+            Set<String> unique = new HashSet<>(delivered);
+            Assert.assertEquals(delivered.size(), 500, "Rows lost or delivered twice");
+            Assert.assertEquals(unique.size(), 500, "A row was delivered twice");
+        } finally {
+            lanes.shutdownNow();
+        }
+    }
+
+    @Test(description = "Blank rows are skipped, empty cells become \"\", columns come in the order asked for")
+    public void testBlankRowsSkipped() throws IOException {
+        List<String[]> rows = Arrays.asList(
+                new String[]{"Admin", "admin123"},
+                new String[]{"", ""},
+                null,
+                new String[]{"", "onlyPassword"});
+        XlsxRows reader = new XlsxRows(workbook(rows, false), null,
+                Arrays.asList("password", "username"), 2, 10_000);
+
+        List<List<Object>> read = new ArrayList<>();
+        reader.forEach(row -> read.add(Arrays.asList(row)));
+
+        Assert.assertEquals(read, Arrays.asList(
+                Arrays.<Object>asList("admin123", "Admin"),
+                Arrays.<Object>asList("onlyPassword", "")));
+    }
+
+    @Test(description = "A column missing from the header fails instead of yielding zero rows",
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = ".*Column 'expected' not in the header.*")
+    public void testMissingColumnFails() throws IOException {
+        Path file = workbook(Collections.singletonList(new String[]{"Admin", "admin123"}), false);
+        XlsxRows reader = new XlsxRows(file, null, Arrays.asList("username", "expected"), 2, 10_000);
+
+        reader.iterator().hasNext();
+    }
+
+    @Test(description = "A shared-strings table above maxSharedStrings is rejected before it is loaded",
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = ".*shared strings, more than 10 .*")
+    public void testTooManySharedStringsRejected() throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            rows.add(new String[]{"user" + i, "secret" + i});
+        }
+        XlsxRows reader = new XlsxRows(workbook(rows, true), null, COLUMNS, 2, 10);
+
+        reader.iterator().hasNext();
+    }
+
+    @Test(description = "The same workbook with inline strings is read whatever the limit")
+    public void testInlineStringsNotLimited() throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            rows.add(new String[]{"user" + i, "secret" + i});
+        }
+        XlsxRows reader = new XlsxRows(workbook(rows, false), null, COLUMNS, 2, 10);
+
+        int count = 0;
+        for (Object[] ignored : reader) {
+            count++;
+        }
+        Assert.assertEquals(count, 20);
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Header "username", "password", then one row per entry (null = a row without cells)
+     *
+     * @param sharedStrings store text in the shared-strings table instead of inline
+     */
+    private static Path workbook(List<String[]> rows, boolean sharedStrings) throws IOException {
+        Path file = Files.createTempFile("matrix", ".xlsx");
+        file.toFile().deleteOnExit();
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(null, 100, false, sharedStrings);
+             OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("logins");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("username");
+            header.createCell(1).setCellValue("password");
+            for (int i = 0; i < rows.size(); i++) {
+                Row row = sheet.createRow(i + 1);
+                String[] values = rows.get(i);
+                if (values == null) {
+                    continue;
+                }
+                for (int column = 0; column < values.length; column++) {
+                    row.createCell(column).setCellValue(values[column]);
+                }
+            }
+            workbook.write(out);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,90 @@
+package com.orangehrm.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * DriverPreLauncherTests - No spare browsers until the pool needs replacements,
+ * and no dead one handed over
+ */
+public class DriverPreLauncherTests {
+
+    @Test(description = "Creating the pre-launcher and filling the pool launch nothing extra")
+    public void testNoLaunchBeforeStart() {
+        AtomicInteger launches = new AtomicInteger();
+        DriverPreLauncher launcher = new DriverPreLauncher(2, counting(launches), driver -> { }, driver -> true);
+        try {
+            Assert.assertEquals(launches.get(), 0, "Launched in the constructor");
+
+            launcher.take();
+            launcher.take();
+
+            Assert.assertEquals(launches.get(), 2, "take() launched spares before the first replacement");
+        } finally {
+            launcher.shutdown();
+        }
+    }
+
+    @Test(description = "After startLookAhead() the look-ahead is kept full")
+    public void testLookAheadAfterStart() {
+        AtomicInteger launches = new AtomicInteger();
+        DriverPreLauncher launcher = new DriverPreLauncher(2, counting(launches), driver -> { }, driver -> true);
+        try {
+            launcher.take();
+            launcher.startLookAhead();
+            launcher.startLookAhead();
+            launcher.take();
+        } finally {
+            // Waits for launches still in progress
+            launcher.shutdown();
+        }
+        // 1 on demand, 2 ahead, 1 replacing the one handed over
+        Assert.assertEquals(launches.get(), 4);
+    }
+
+    @Test(description = "A pre-launched browser that died while it waited is quit, not handed over")
+    public void testDeadPreLaunchIsNotHandedOver() throws InterruptedException {
+        AtomicInteger launches = new AtomicInteger();
+        // The stub browsers have no equals/hashCode: compared by identity
+        AtomicReference<WebDriver> dead = new AtomicReference<>();
+        CountDownLatch deadQuit = new CountDownLatch(1);
+        Supplier<WebDriver> browsers = counting(new AtomicInteger());
+        DriverPreLauncher launcher = new DriverPreLauncher(1, () -> {
+            WebDriver driver = browsers.get();
+            // Launch 2 is the first look-ahead one: it crashes while it waits
+            if (launches.incrementAndGet() == 2) {
+                dead.set(driver);
+            }
+            return driver;
+        }, driver -> {
+            if (driver == dead.get()) {
+                deadQuit.countDown();
+            }
+        }, driver -> driver != dead.get());
+        WebDriver handedOver;
+        try {
+            launcher.take();
+            launcher.startLookAhead();
+            handedOver = launcher.take();
+        } finally {
+            launcher.shutdown();
+        }
+        Assert.assertNotSame(handedOver, dead.get(), "The dead pre-launched browser was handed over");
+        Assert.assertTrue(deadQuit.await(5, TimeUnit.SECONDS), "The dead pre-launched browser was not quit");
+    }
+
+    private static Supplier<WebDriver> counting(AtomicInteger launches) {
+        return () -> {
+            launches.incrementAndGet();
+            return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                    new Class<?>[]{WebDriver.class}, (proxy, method, args) -> null);
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.orangehrm.retry;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.net.SocketException;
+
+/**
+ * TransientFailuresTests - Which failures earn a retry
+ */
+public class TransientFailuresTests {
+
+    @Test(description = "A timeout is transient")
+    public void testTimeoutIsTransient() {
+        Assert.assertEquals(TransientFailures.classify(new TimeoutException("DashboardPage not ready after 15s")),
+                "TimeoutException");
+    }
+
+    @Test(description = "An assertion anywhere in the cause chain is never retried")
+    public void testAssertionInCauseChainIsNotTransient() {
+        Throwable wrapped = new TimeoutException("gave up", new AssertionError("wrong header"));
+
+        Assert.assertNull(TransientFailures.classify(wrapped));
+        Assert.assertNull(TransientFailures.classify(new AssertionError("Dashboard did not load")));
+    }
+
+    @Test(description = "A connection reset wrapped by WebDriver is transient")
+    public void testWrappedSocketExceptionIsTransient() {
+        Throwable wrapped = new WebDriverException(new SocketException("Connection reset"));
+
+        Assert.assertEquals(TransientFailures.classify(wrapped), "SocketException");
+    }
+
+    @Test(description = "A net::ERR_ page load failure is transient")
+    public void testNetErrorMessageIsTransient() {
+        Throwable failure = new WebDriverException("unknown error: net::ERR_CONNECTION_CLOSED");
+
+        Assert.assertEquals(TransientFailures.classify(failure), "WebDriverException (net::err_)");
+    }
+
+    @Test(description = "A missing element or a framework bug is a real failure")
+    public void testOtherFailuresAreNotTransient() {
+        Assert.assertNull(TransientFailures.classify(new NoSuchElementException("no such element: #login")));
+        Assert.assertNull(TransientFailures.classify(new IllegalStateException("declares no PageContract")));
+        Assert.assertNull(TransientFailures.classify(null));
+    }
+}
@@ -0,0 +1,73 @@
+package com.orangehrm.sharding;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MakespanSimulatorTests - Expected wall time of a dispatch order
+ */
+public class MakespanSimulatorTests {
+
+    private static final Map<String, Long> ESTIMATES = new HashMap<>();
+
+    static {
+        ESTIMATES.put("long", 3_000L);
+        ESTIMATES.put("a", 1_000L);
+        ESTIMATES.put("b", 1_000L);
+        ESTIMATES.put("c", 1_000L);
+    }
+
+    @Test(description = "One worker runs everything back to back")
+    public void testSingleWorkerIsSum() {
+        long makespan = MakespanSimulator.makespan(Arrays.asList("a", "long", "b", "c"),
+                ESTIMATES, Collections.emptyMap(), 1);
+
+        Assert.assertEquals(makespan, 6_000L);
+    }
+
+    @Test(description = "A long test started last is a straggler")
+    public void testLongestFirstIsShorter() {
+        List<String> longLast = Arrays.asList("a", "b", "c", "long");
+        List<String> longFirst = Arrays.asList("long", "a", "b", "c");
+
+        Assert.assertEquals(MakespanSimulator.makespan(longLast, ESTIMATES, Collections.emptyMap(), 2), 4_000L);
+        Assert.assertEquals(MakespanSimulator.makespan(longFirst, ESTIMATES, Collections.emptyMap(), 2), 3_000L);
+    }
+
+    @Test(description = "A dependent test waits for its dependency to finish")
+    public void testDependencyDelaysStart() {
+        Map<String, Set<String>> dependencies = Collections.singletonMap("a", Collections.singleton("long"));
+
+        long makespan = MakespanSimulator.makespan(Arrays.asList("long", "a"), ESTIMATES, dependencies, 2);
+
+        Assert.assertEquals(makespan, 4_000L);
+    }
+
+    @Test(description = "A priority level waits for the whole previous level")
+    public void testPriorityLevelsAreBarriers() {
+        List<String> order = Arrays.asList("long", "a", "b", "c");
+        Map<String, Integer> oneLevelEach = new HashMap<>();
+        for (int i = 0; i < order.size(); i++) {
+            oneLevelEach.put(order.get(i), i);
+        }
+
+        // One level per test: no overlap at all, whatever the worker count
+        Assert.assertEquals(MakespanSimulator.makespan(order, ESTIMATES, Collections.emptyMap(), oneLevelEach, 4),
+                6_000L);
+        // One shared level: plain dispatch
+        Assert.assertEquals(MakespanSimulator.makespan(order, ESTIMATES, Collections.emptyMap(),
+                Collections.emptyMap(), 4), 3_000L);
+    }
+
+    @Test(description = "Median of known durations, fallback when there are none")
+    public void testMedian() {
+        Assert.assertEquals(MakespanSimulator.median(Arrays.asList(5L, 1L, 3L), 10L), 3L);
+        Assert.assertEquals(MakespanSimulator.median(Collections.emptyList(), 10L), 10L);
+    }
+}
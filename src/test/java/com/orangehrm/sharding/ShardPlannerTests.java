@@ -0,0 +1,115 @@
+package com.orangehrm.sharding;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * ShardPlannerTests - The plan every shard computes independently
+ */
+public class ShardPlannerTests {
+
+    @Test(description = "Every test lands in exactly one shard")
+    public void testEveryTestPlannedExactlyOnce() {
+        List<List<String>> groups = new ArrayList<>();
+        Map<String, Long> timings = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            groups.add(Collections.singletonList("Suite.test" + i));
+            if (i % 3 != 0) {
+                timings.put("Suite.test" + i, 100L + random.nextInt(5_000));
+            }
+        }
+
+        List<ShardPlanner.Shard> plan = ShardPlanner.plan(groups, timings, 4);
+
+        Assert.assertEquals(plan.size(), 4);
+        List<String> planned = new ArrayList<>();
+        plan.forEach(shard -> planned.addAll(shard.getTests()));
+        Assert.assertEquals(planned.size(), 50, "A test was planned twice or not at all");
+        Assert.assertEquals(new HashSet<>(planned).size(), 50, "A test was planned twice");
+    }
+
+    @Test(description = "Tests linked by dependsOnMethods stay in one shard")
+    public void testDependencyGroupsStayTogether() {
+        List<List<String>> groups = Arrays.asList(
+                Arrays.asList("Flow.step3", "Flow.step1", "Flow.step2"),
+                Collections.singletonList("Other.a"),
+                Collections.singletonList("Other.b"),
+                Collections.singletonList("Other.c"));
+
+        List<ShardPlanner.Shard> plan = ShardPlanner.plan(groups, Collections.emptyMap(), 3);
+
+        for (ShardPlanner.Shard shard : plan) {
+            Set<String> tests = new HashSet<>(shard.getTests());
+            if (tests.contains("Flow.step1")) {
+                Assert.assertTrue(tests.containsAll(Arrays.asList("Flow.step2", "Flow.step3")),
+                        "Dependency group was split: " + shard.getTests());
+            }
+        }
+    }
+
+    @Test(description = "Equal durations give the same plan whatever the input order")
+    public void testTiesBrokenDeterministically() {
+        List<List<String>> groups = new ArrayList<>();
+        for (String test : Arrays.asList("B.two", "A.one", "D.four", "C.three", "E.five")) {
+            groups.add(Collections.singletonList(test));
+        }
+        List<List<String>> reversed = new ArrayList<>(groups);
+        Collections.reverse(reversed);
+
+        List<ShardPlanner.Shard> first = ShardPlanner.plan(groups, Collections.emptyMap(), 2);
+        List<ShardPlanner.Shard> second = ShardPlanner.plan(reversed, Collections.emptyMap(), 2);
+
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(second.get(i).getTests(), first.get(i).getTests());
+        }
+        // Names in order, always to the lowest-numbered least loaded shard
+        Assert.assertEquals(first.get(0).getTests(), Arrays.asList("A.one", "C.three", "E.five"));
+        Assert.assertEquals(first.get(1).getTests(), Arrays.asList("B.two", "D.four"));
+    }
+
+    @Test(description = "Shards are balanced by duration, not by test count")
+    public void testBalancedByDuration() {
+        Map<String, Long> timings = new HashMap<>();
+        timings.put("Dashboard.slow", 8_000L);
+        timings.put("Login.a", 2_000L);
+        timings.put("Login.b", 2_000L);
+        timings.put("Login.c", 2_000L);
+        timings.put("Login.d", 2_000L);
+        List<List<String>> groups = new ArrayList<>();
+        timings.keySet().forEach(test -> groups.add(Collections.singletonList(test)));
+
+        List<ShardPlanner.Shard> plan = ShardPlanner.plan(groups, timings, 2);
+
+        Assert.assertEquals(plan.get(0).getTests(), Collections.singletonList("Dashboard.slow"));
+        Assert.assertEquals(plan.get(0).getEstimateMillis(), 8_000L);
+        Assert.assertEquals(plan.get(1).getEstimateMillis(), 8_000L);
+    }
+
+    @Test(description = "Tests without history are estimated with the median known duration")
+    public void testUnknownTestUsesMedian() {
+        Map<String, Long> timings = new HashMap<>();
+        timings.put("Known.a", 1_000L);
+        timings.put("Known.b", 3_000L);
+        timings.put("Known.c", 9_000L);
+
+        List<ShardPlanner.Shard> plan = ShardPlanner.plan(
+                Collections.singletonList(Collections.singletonList("New.test")), timings, 1);
+
+        Assert.assertEquals(plan.get(0).getEstimateMillis(), 3_000L);
+    }
+
+    @Test(description = "Zero shards is rejected", expectedExceptions = IllegalArgumentException.class)
+    public void testZeroShardsRejected() {
+        ShardPlanner.plan(Collections.emptyList(), Collections.emptyMap(), 0);
+    }
+}
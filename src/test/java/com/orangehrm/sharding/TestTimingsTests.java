@@ -0,0 +1,78 @@
+package com.orangehrm.sharding;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * TestTimingsTests - Reading, smoothing and merging test-timings.properties
+ */
+public class TestTimingsTests {
+
+    @Test(description = "No file yet means no history")
+    public void testMissingFileIsEmpty() throws IOException {
+        TestTimings timings = new TestTimings(Files.createTempDirectory("timings").resolve("timings.properties"));
+
+        Assert.assertTrue(timings.load().isEmpty());
+    }
+
+    @Test(description = "A new measurement is averaged with the recorded one")
+    public void testUpdateIsSmoothed() throws IOException {
+        TestTimings timings = new TestTimings(Files.createTempDirectory("timings").resolve("timings.properties"));
+
+        timings.update(Collections.singletonMap("Login.valid", 1_000L));
+        timings.update(Collections.singletonMap("Login.valid", 2_000L));
+
+        Assert.assertEquals(timings.load(), Collections.singletonMap("Login.valid", 1_500L));
+    }
+
+    @Test(description = "Shards leave the file alone until the last one has finished")
+    public void testShardsMergeOnlyWhenAllFinished() throws IOException {
+        Path dir = Files.createTempDirectory("timings");
+        TestTimings timings = new TestTimings(dir.resolve("timings.properties"));
+        timings.update(Collections.singletonMap("Login.valid", 1_000L));
+
+        Assert.assertFalse(timings.updateShard(Collections.singletonMap("Login.valid", 3_000L), "run1", 1, 2));
+        Assert.assertEquals(timings.load(), Collections.singletonMap("Login.valid", 1_000L),
+                "Shard 2 would plan from a file shard 1 changed");
+
+        Assert.assertTrue(timings.updateShard(Collections.singletonMap("Dashboard.header", 4_000L), "run1", 2, 2));
+        Map<String, Long> expected = new HashMap<>();
+        expected.put("Login.valid", 2_000L);
+        expected.put("Dashboard.header", 4_000L);
+        Assert.assertEquals(timings.load(), expected);
+        try (Stream<Path> files = Files.list(dir)) {
+            Assert.assertTrue(files.noneMatch(file -> file.getFileName().toString().contains(".shard-")),
+                    "Shard parts were not cleaned up");
+        }
+    }
+
+    @Test(description = "Parts of another run never complete this run's set")
+    public void testOtherRunPartsAreIgnored() throws IOException {
+        Path dir = Files.createTempDirectory("timings");
+        TestTimings timings = new TestTimings(dir.resolve("timings.properties"));
+
+        // An aborted run: shard 2 finished, shard 1 never did
+        Assert.assertFalse(timings.updateShard(Collections.singletonMap("Dashboard.header", 9_000L), "aborted", 2, 2));
+
+        Assert.assertFalse(timings.updateShard(Collections.singletonMap("Login.valid", 1_000L), "run2", 1, 2),
+                "The aborted run's part completed this run's set");
+        Assert.assertTrue(timings.load().isEmpty());
+        try (Stream<Path> files = Files.list(dir)) {
+            Assert.assertTrue(files.noneMatch(file -> file.getFileName().toString().contains("aborted")),
+                    "The aborted run's part was not cleaned up");
+        }
+
+        Assert.assertTrue(timings.updateShard(Collections.singletonMap("Dashboard.header", 4_000L), "run2", 2, 2));
+        Map<String, Long> expected = new HashMap<>();
+        expected.put("Login.valid", 1_000L);
+        expected.put("Dashboard.header", 4_000L);
+        Assert.assertEquals(timings.load(), expected);
+    }
+}
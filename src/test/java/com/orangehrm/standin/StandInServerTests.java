@@ -0,0 +1,108 @@
+package com.orangehrm.standin;
+
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * StandInServerTests - Sessions expire and never pile up on the stand-in
+ */
+public class StandInServerTests {
+
+    private static final Pattern TOKEN = Pattern.compile("name=\"_token\" value=\"([^\"]+)\"");
+    private static final String LOGIN = "web/index.php/auth/login";
+    private static final String VALIDATE = "web/index.php/auth/validate";
+    private static final String DASHBOARD = "web/index.php/dashboard/index";
+
+    @Test(description = "A logged-in session unused for the idle timeout sends the next page to the login form")
+    public void testIdleSessionExpires() throws InterruptedException {
+        StandInServer server = start(Duration.ofMillis(300));
+        try {
+            String cookie = login(server.getBaseUrl());
+            Assert.assertEquals(get(server, DASHBOARD, cookie).statusCode(), 200);
+
+            Thread.sleep(400);
+
+            Response expired = get(server, DASHBOARD, cookie);
+            Assert.assertEquals(expired.statusCode(), 302);
+            Assert.assertTrue(expired.getHeader("Location").endsWith(LOGIN), "Expired session opened the dashboard");
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test(description = "Anonymous login page visits are swept once they expire")
+    public void testAnonymousSessionsAreSwept() throws InterruptedException {
+        StandInServer server = start(Duration.ofMillis(100));
+        try {
+            for (int i = 0; i < 20; i++) {
+                get(server, LOGIN, null);
+            }
+            Assert.assertEquals(server.sessionCount(), 20);
+
+            // Past the idle timeout and the sweep interval
+            Thread.sleep(1_100);
+            get(server, LOGIN, null);
+
+            Assert.assertEquals(server.sessionCount(), 1, "Expired anonymous sessions were kept");
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test(description = "A failed form token replaces the session instead of adding one")
+    public void testCsrfFailureReplacesSession() {
+        StandInServer server = start(Duration.ofMinutes(30));
+        try {
+            Response page = get(server, LOGIN, null);
+            RestAssured.given().redirects().follow(false)
+                    .cookie(StandInServer.COOKIE_NAME, page.getCookie(StandInServer.COOKIE_NAME))
+                    .formParam("_token", "forged")
+                    .formParam("username", "Admin")
+                    .formParam("password", "admin123")
+                    .post(server.getBaseUrl() + VALIDATE);
+
+            Assert.assertEquals(server.sessionCount(), 1);
+        } finally {
+            server.stop();
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private static StandInServer start(Duration sessionIdle) {
+        StandInServer server = new StandInServer(0, Collections.singletonMap("Admin", "admin123"), sessionIdle);
+        server.start();
+        return server;
+    }
+
+    private static Response get(StandInServer server, String path, String cookie) {
+        return cookie == null
+                ? RestAssured.given().redirects().follow(false).get(server.getBaseUrl() + path)
+                : RestAssured.given().redirects().follow(false)
+                        .cookie(StandInServer.COOKIE_NAME, cookie).get(server.getBaseUrl() + path);
+    }
+
+    /**
+     * @return the session cookie of a successful login
+     */
+    private static String login(String baseUrl) {
+        Response page = RestAssured.given().redirects().follow(false).get(baseUrl + LOGIN);
+        Matcher token = TOKEN.matcher(page.asString());
+        Assert.assertTrue(token.find(), "No form token on the login page");
+
+        Response validated = RestAssured.given().redirects().follow(false)
+                .cookie(StandInServer.COOKIE_NAME, page.getCookie(StandInServer.COOKIE_NAME))
+                .formParam("_token", token.group(1))
+                .formParam("username", "Admin")
+                .formParam("password", "admin123")
+                .post(baseUrl + VALIDATE);
+        Assert.assertTrue(validated.getHeader("Location").endsWith(DASHBOARD), "Login failed");
+        return validated.getCookie(StandInServer.COOKIE_NAME);
+    }
+}
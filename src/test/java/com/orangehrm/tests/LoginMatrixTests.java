@@ -0,0 +1,89 @@
+package com.orangehrm.tests;
+
+import com.orangehrm.base.BaseTest;
+import com.orangehrm.data.ExcelDataProviders;
+import com.orangehrm.pages.LoginPage;
+import com.orangehrm.sharding.Lane;
+import org.testng.Assert;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+
+
+/**
+ * LoginMatrixTests - Login scenarios driven by an Excel credential matrix
+ *
+ * Test Coverages:
+ * Every row of src/test/resources/data/login-matrix.xlsx:
+ * valid login, invalid password/username, case sensitivity, empty fields
+ *
+ * Real-World Impact:
+ * - QA adds a credential case by adding a row, no Java change
+ * - Large matrices (-Ddata.loginMatrix=/path/big.xlsx) are streamed:
+ *   tests start after the first row, memory does not grow with the file
+ *
+ * One instance per lane (ExcelDataProviders.lanes()); run with
+ * -Dparallel=methods to work through the rows in parallel. Each lane is
+ * timed on its own; all lanes always run in the same shard (see Lane).
+ *
+ * @author Zain Ul Rehman
+ */
+
+public class LoginMatrixTests extends BaseTest implements Lane {
+
+    private final int lane;
+
+    public LoginMatrixTests(int lane) {
+        this.lane = lane;
+    }
+
+    @Factory
+    public static Object[] lanes() {
+        Object[] lanes = new Object[ExcelDataProviders.lanes()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new LoginMatrixTests(i + 1);
+        }
+        return lanes;
+    }
+
+    @Override
+    public int getLane() {
+        return lane;
+    }
+
+    /**
+     * Test Case: One row of the credential matrix
+     *
+     * Expected (column "expected"):
+     * - "dashboard": login succeeds
+     * - "Required": empty field validation
+     * - anything else: that error message, e.g. "Invalid credentials"
+     */
+    @Test(dataProvider = ExcelDataProviders.LOGIN_MATRIX, dataProviderClass = ExcelDataProviders.class,
+            description = "Login matrix (Excel)")
+    public void testLoginMatrix(String caseName, String username, String password, String expected) {
+        log.info("MATRIX (lane {}): {}", lane, caseName);
+
+        LoginPage loginPage = new LoginPage(getDriver());
+
+        if (expected.equalsIgnoreCase("dashboard")) {
+            // Rejected login is an assertion failure; still loading is a (retried) timeout
+            loginPage.login(username, password).assertLoggedIn();
+        } else {
+            if (!username.isEmpty()) {
+                loginPage.enterUsername(username);
+            }
+            if (!password.isEmpty()) {
+                loginPage.enterPassword(password);
+            }
+            loginPage.clickLoginButton();
+
+            String errorText = expected.equalsIgnoreCase("Required")
+                    ? loginPage.getRequiredFieldError()
+                    : loginPage.getErrorMessage();
+            Assert.assertTrue(errorText.contains(expected),
+                    caseName + ": Unexpected error: " + errorText);
+        }
+
+        log.info("MATRIX PASSED: {}", caseName);
+    }
+}